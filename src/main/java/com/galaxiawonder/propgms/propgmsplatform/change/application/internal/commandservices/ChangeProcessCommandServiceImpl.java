@@ -10,15 +10,14 @@ import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.valueobject
 import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.valueobjects.ChangeResponse;
 import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.valueobjects.Justification;
 import com.galaxiawonder.propgms.propgmsplatform.change.domain.services.ChangeProcessCommandService;
-import com.galaxiawonder.propgms.propgmsplatform.change.infrastructure.persistence.jpa.repositories.ChangeOriginRepository;
 import com.galaxiawonder.propgms.propgmsplatform.change.infrastructure.persistence.jpa.repositories.ChangeProcessRepository;
-import com.galaxiawonder.propgms.propgmsplatform.change.infrastructure.persistence.jpa.repositories.ChangeProcessStatusRepository;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.ProjectStatus;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectInfo;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectStatuses;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectRepository;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectStatusRepository;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.acl.ProjectContextFacade;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProjectId;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataRegistry;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
@@ -28,23 +27,17 @@ import java.util.Optional;
 public class ChangeProcessCommandServiceImpl implements ChangeProcessCommandService {
 
     private final ChangeProcessRepository changeProcessRepository;
-    private final ChangeOriginRepository changeOriginRepository;
-    private final ChangeProcessStatusRepository changeProcessStatusRepository;
-    private final ProjectStatusRepository projectStatusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final ProjectRepository projectRepository;
     private final ProjectContextFacade projectContextFacade;
 
     public ChangeProcessCommandServiceImpl(
             ChangeProcessRepository changeProcessRepository,
-            ChangeOriginRepository changeOriginRepository,
-            ChangeProcessStatusRepository changeProcessStatusRepository,
-            ProjectStatusRepository projectStatusRepository,
+            ReferenceDataRegistry referenceDataRegistry,
             ProjectRepository projectRepository,
             ProjectContextFacade projectContextFacade) {
         this.changeProcessRepository = changeProcessRepository;
-        this.changeOriginRepository = changeOriginRepository;
-        this.changeProcessStatusRepository = changeProcessStatusRepository;
-        this.projectStatusRepository = projectStatusRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.projectRepository = projectRepository;
         this.projectContextFacade = projectContextFacade;
     }
@@ -63,16 +56,16 @@ public class ChangeProcessCommandServiceImpl implements ChangeProcessCommandServ
                 ? "TECHNICAL_QUERY"
                 : "CHANGE_REQUEST";
 
-        var origin = changeOriginRepository.findByName(ChangeOrigins.valueOf(originName))
+        var origin = referenceDataRegistry.findByName(ChangeOrigin.class, ChangeOrigins.valueOf(originName))
                 .orElseThrow(() -> new IllegalArgumentException("Change Origin with name " + originName + " does not exist"));
 
-        var status = changeProcessStatusRepository.findByName(ChangeProcessStatuses.PENDING)
+        var status = referenceDataRegistry.findByName(ChangeProcessStatus.class, ChangeProcessStatuses.PENDING)
                 .orElseThrow(() -> new IllegalArgumentException("Change Process Status with name " + ChangeProcessStatuses.PENDING + " does not exist"));
 
         changeProcess.SetInformation(origin, status);
         changeProcessRepository.save(changeProcess);
 
-        var projectStatus = projectStatusRepository.findByName(ProjectStatuses.CHANGE_REQUESTED)
+        var projectStatus = referenceDataRegistry.findByName(ProjectStatus.class, ProjectStatuses.CHANGE_REQUESTED)
                 .orElseThrow(() -> new IllegalArgumentException("Project Status with name " + ProjectStatuses.CHANGE_REQUESTED + " does not exist"));
 
         project.reassignStatus(projectStatus);
@@ -93,7 +86,7 @@ public class ChangeProcessCommandServiceImpl implements ChangeProcessCommandServ
                 .orElseThrow(() -> new IllegalArgumentException("Project with id " + changeProcess.getProjectId().projectId() + " does not exist"));
 
         var newStatus = command.status().name();
-        var status = changeProcessStatusRepository.findByName(ChangeProcessStatuses.valueOf(newStatus))
+        var status = referenceDataRegistry.findByName(ChangeProcessStatus.class, ChangeProcessStatuses.valueOf(newStatus))
                 .orElseThrow(() -> new IllegalArgumentException("Change Process Status with name " + newStatus + " does not exist"));
         changeProcess.respondToChange(status, command.response());
 
@@ -101,7 +94,7 @@ public class ChangeProcessCommandServiceImpl implements ChangeProcessCommandServ
                 ? "CHANGE_PENDING"
                 : project.getPreviousStatusName();
         if(!newProjectStatus.isBlank()) {
-            var projectStatus = projectStatusRepository.findByName(ProjectStatuses.valueOf(newProjectStatus))
+            var projectStatus = referenceDataRegistry.findByName(ProjectStatus.class, ProjectStatuses.valueOf(newProjectStatus))
                     .orElseThrow(() -> new IllegalArgumentException("Project Status with name " + newProjectStatus + " does not exist"));
             project.reassignStatus(projectStatus);
         }
@@ -24,7 +24,10 @@ import lombok.Getter;
  * @since 1.0
  */
 @Entity
+@Table(indexes = @Index(name = ChangeProcess.PROJECT_CREATED_AT_INDEX, columnList = "project_id, created_at"))
 public class ChangeProcess extends AuditableAbstractAggregateRoot<ChangeProcess> {
+    /** Name of the index used to find the latest change processes of a project */
+    public static final String PROJECT_CREATED_AT_INDEX = "idx_change_processes_project_created_at";
 
     /**
      * Current origin of the change process, represented as an entity
@@ -1,4 +0,0 @@
-package com.galaxiawonder.propgms.propgmsplatform.change.domain.model.commands;
-
-public record SeedChangeOriginCommand() {
-}
@@ -0,0 +1,35 @@
+package com.galaxiawonder.propgms.propgmsplatform.change.infrastructure.persistence.jpa.configuration;
+
+import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.entities.ChangeOrigin;
+import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.entities.ChangeProcessStatus;
+import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.valueobjects.ChangeOrigins;
+import com.galaxiawonder.propgms.propgmsplatform.change.domain.model.valueobjects.ChangeProcessStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.change.infrastructure.persistence.jpa.repositories.ChangeOriginRepository;
+import com.galaxiawonder.propgms.propgmsplatform.change.infrastructure.persistence.jpa.repositories.ChangeProcessStatusRepository;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ChangeReferenceDataConfiguration
+ *
+ * @summary
+ * Declares the enum-backed lookup tables of the change management context, so that they are
+ * resolved through the shared reference data registry.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Configuration
+public class ChangeReferenceDataConfiguration {
+    @Bean
+    ReferenceDataTable<ChangeOrigins, ChangeOrigin> changeOriginReferenceData(ChangeOriginRepository repository) {
+        return new ReferenceDataTable<>(ChangeOrigins.class, ChangeOrigin.class, repository, ChangeOrigin::getName, ChangeOrigin::new);
+    }
+
+    @Bean
+    ReferenceDataTable<ChangeProcessStatuses, ChangeProcessStatus> changeProcessStatusReferenceData(ChangeProcessStatusRepository repository) {
+        return new ReferenceDataTable<>(ChangeProcessStatuses.class, ChangeProcessStatus.class, repository, ChangeProcessStatus::getName, ChangeProcessStatus::new);
+    }
+}
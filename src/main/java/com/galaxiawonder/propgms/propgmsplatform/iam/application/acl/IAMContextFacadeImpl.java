@@ -1,24 +1,65 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.application.acl;
 
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Person;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events.PersonChangedEvent;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonByEmailQuery;
-import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonByIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonIdByEmailQuery;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetProfileDetailsByPersonIdsQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetSpecialtyByPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.services.PersonQueryService;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.acl.IAMContextFacade;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * IAMContextFacadeImpl
+ *
+ * @summary
+ * Implementation of {@link IAMContextFacade} backed by the {@link PersonQueryService}.
+ *
+ * <p>Profile details are served from a bounded, TTL-based read-through cache keyed by person ID,
+ * which stores only the small {@link ProfileDetails} record. Misses are resolved with a projection
+ * query, in a single round trip for bulk lookups, and entries are evicted as soon as a change to
+ * the person is committed. Hit ratio and load latency are published through Micrometer under the
+ * {@code iam.profile-details} cache name.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
 @Service
 public class IAMContextFacadeImpl implements IAMContextFacade {
+    private static final String CACHE_NAME = "iam.profile-details";
 
     private final PersonQueryService personQueryService;
 
-    public IAMContextFacadeImpl(PersonQueryService personQueryService) {
+    private final LoadingCache<Long, ProfileDetails> profileDetailsCache;
+
+    public IAMContextFacadeImpl(PersonQueryService personQueryService,
+                                MeterRegistry meterRegistry,
+                                @Value("${iam.profile-details.cache.max-size:10000}") long maximumSize,
+                                @Value("${iam.profile-details.cache.ttl-seconds:300}") long ttlSeconds) {
         this.personQueryService = personQueryService;
+        this.profileDetailsCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(new ProfileDetailsLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, profileDetailsCache, CACHE_NAME);
     }
 
     /**
@@ -26,10 +67,9 @@ public class IAMContextFacadeImpl implements IAMContextFacade {
      */
     @Override
     public ProfileDetails getProfileDetailsByPersonId(Long personId) {
-        var person = this.personQueryService.handle(new GetPersonByIdQuery(personId))
-                .orElseThrow(() -> new EntityNotFoundException("Person not found with ID: " + personId));
-
-        return createProfileDetails(person);
+        var profileDetails = personId != null ? profileDetailsCache.get(personId) : null;
+        if (profileDetails == null) throw new EntityNotFoundException("Person not found with ID: " + personId);
+        return profileDetails;
     }
 
     /**
@@ -40,7 +80,9 @@ public class IAMContextFacadeImpl implements IAMContextFacade {
         var person = this.personQueryService.handle(new GetPersonByEmailQuery(email))
                 .orElseThrow(() -> new EntityNotFoundException("Person not found with email: " + email));
 
-        return createProfileDetails(person);
+        var profileDetails = createProfileDetails(person);
+        profileDetailsCache.put(person.getId(), profileDetails);
+        return profileDetails;
     }
 
     /**
@@ -48,10 +90,18 @@ public class IAMContextFacadeImpl implements IAMContextFacade {
      */
     @Override
     public ProfileDetails getProfileDetailsById(Long id) {
-        var person = this.personQueryService.handle(new GetPersonByIdQuery(id))
-                .orElseThrow(() -> new EntityNotFoundException("Person not found with id: " + id));
+        var profileDetails = id != null ? profileDetailsCache.get(id) : null;
+        if (profileDetails == null) throw new EntityNotFoundException("Person not found with id: " + id);
+        return profileDetails;
+    }
 
-        return createProfileDetails(person);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, ProfileDetails> getProfileDetailsByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Map.of();
+        return profileDetailsCache.getAll(ids);
     }
 
     private static ProfileDetails createProfileDetails(Person person) {
@@ -73,4 +123,31 @@ public class IAMContextFacadeImpl implements IAMContextFacade {
     public Specialty getSpecialtyFromPersonId(Long id) {
         return this.personQueryService.handle(new GetSpecialtyByPersonIdQuery(id));
     }
+
+    /**
+     * Evicts the cached profile details once a change to the person has been committed.
+     *
+     * @param event the person changed event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(PersonChangedEvent event) {
+        profileDetailsCache.invalidate(event.getPersonId());
+    }
+
+    /**
+     * Loads missing profile details through the {@link PersonQueryService}, resolving every miss
+     * of a bulk lookup with a single query. Unknown IDs are never cached.
+     */
+    private class ProfileDetailsLoader implements CacheLoader<Long, ProfileDetails> {
+
+        @Override
+        public ProfileDetails load(Long id) {
+            return personQueryService.handle(new GetProfileDetailsByPersonIdsQuery(Set.of(id))).get(id);
+        }
+
+        @Override
+        public Map<Long, ProfileDetails> loadAll(Set<? extends Long> ids) {
+            return personQueryService.handle(new GetProfileDetailsByPersonIdsQuery(Set.copyOf(ids)));
+        }
+    }
 }
@@ -1,26 +1,39 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.commandservices;
 
+import com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.hashing.HashingService;
 import com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.tokens.TokenService;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Person;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.UserAccount;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignInCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignOutCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpBatchCommand;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpCommand;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.entities.UserType;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.*;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.services.UserAccountCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.repositories.PersonRepository;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.repositories.UserAccountRepository;
-import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.repositories.UserTypeRepository;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.Specialties;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.SpecialtyRepository;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.EmailAddress;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataRegistry;
 import jakarta.transaction.Transactional;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * UserAccountCommandServiceImpl
@@ -31,6 +44,7 @@ import java.util.Optional;
  * injected JPA repositories.
  *
  * This service is transactional and ensures atomic creation of both {@link UserAccount} and {@link Person}.
+ * Batches of sign-ups are committed in chunks, each chunk in its own transaction.
  *
  * @author
  * Galaxia Wonder Development Team
@@ -38,6 +52,13 @@ import java.util.Optional;
  */
 @Service
 public class UserAccountCommandServiceImpl implements UserAccountCommandService {
+    private static final String USERNAME_TAKEN_MESSAGE = "Username is already taken.";
+    private static final String EMAIL_TAKEN_MESSAGE = "Email address is already taken.";
+    private static final String PHONE_NUMBER_TAKEN_MESSAGE = "Person with the same phone number already exists";
+    private static final String DUPLICATED_IN_BATCH_MESSAGE = "Username, email address or phone number is repeated in the batch.";
+    private static final String HASHING_CAPACITY_MESSAGE = "Password hashing capacity exhausted, please retry later.";
+    private static final String ACCOUNT_NOT_CREATED_MESSAGE = "Account could not be created.";
+
     /**
      * JPA repository for user accounts.
      */
@@ -49,9 +70,9 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
     private final PersonRepository personRepository;
 
     /**
-     * JPA repository for user types.
+     * Registry for user type and specialty reference data.
      */
-    private final UserTypeRepository userTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /**
      * Password hashing service for securely storing credentials.
@@ -63,29 +84,48 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
      */
     private final TokenService tokenService;
 
-    private final SpecialtyRepository specialtyRepository;
+    /**
+     * Hash of a random password, verified against when the username does not exist
+     * so that unknown and known usernames cost the same to reject.
+     */
+    private final String unknownUserHash;
+
+    /**
+     * Runs each chunk of a sign-up batch in its own transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Maximum number of sign-ups checked, hashed and committed together.
+     */
+    private final int batchChunkSize;
 
     /**
      * Constructs the service with all necessary dependencies.
      *
      * @param userAccountRepository repository for {@link UserAccount} persistence
      * @param personRepository repository for {@link Person} persistence
-     * @param userTypeRepository repository for {@link UserType} lookup
+     * @param referenceDataRegistry registry for {@link UserType} and {@link Specialty} lookup
      * @param hashingService utility for password hashing and verification
+     * @param transactionManager transaction manager used to commit sign-up batches in chunks
+     * @param batchChunkSize maximum number of sign-ups committed per transaction
      */
     UserAccountCommandServiceImpl(
             UserAccountRepository userAccountRepository,
             PersonRepository personRepository,
-            UserTypeRepository userTypeRepository,
+            ReferenceDataRegistry referenceDataRegistry,
             HashingService hashingService,
             TokenService tokenService,
-            SpecialtyRepository specialtyRepository) {
+            PlatformTransactionManager transactionManager,
+            @Value("${authorization.signup.batch.chunk-size:50}") int batchChunkSize) {
         this.userAccountRepository = userAccountRepository;
         this.personRepository = personRepository;
-        this.userTypeRepository = userTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.hashingService = hashingService;
         this.tokenService = tokenService;
-        this.specialtyRepository = specialtyRepository;
+        this.unknownUserHash = hashingService.encode(UUID.randomUUID().toString());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchChunkSize = batchChunkSize;
     }
 
     /**
@@ -97,13 +137,12 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
 
         Person person = new Person(command);
         if(command.specialty() != null) {
-            Specialty specialty = getSpecialtyFromDatabase(command)
+            Specialty specialty = getSpecialty(command)
                     .orElseThrow(() -> new IllegalArgumentException("Invalid specialty"));
             person.assignSpecialty(specialty);
         }
-        personRepository.save(person);
 
-        UserType userType = getUserTypeFromDatabase(command)
+        UserType userType = getUserType(command)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid userType"));
 
         String hashedPassword = encodePassword(command);
@@ -112,12 +151,46 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
                 hashedPassword,
                 userType
         );
-        userAccount.assignPersonId(person.getId());
-        userAccountRepository.save(userAccount);
 
-        return getUserAccountFromDatabase(command.username());
+        try {
+            personRepository.saveAndFlush(person);
+            userAccount.assignPersonId(person.getId());
+            return Optional.of(userAccountRepository.saveAndFlush(userAccount));
+        } catch (DataIntegrityViolationException e) {
+            throw translateUniqueConstraintViolation(e);
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Entries are validated up front against reference data loaded once. Then, chunk by chunk, they are
+     * checked for uniqueness with set-based queries, hashed in parallel and inserted in a single
+     * transaction. When a chunk hits a unique constraint, its entries are retried one per transaction
+     * to isolate the offending rows.
+     * </p>
+     */
+    @Override
+    public List<SignUpOutcome> handle(SignUpBatchCommand command) {
+        var outcomes = new SignUpOutcome[command.commands().size()];
+        var pending = prepareSignUps(command.commands(), outcomes);
+        for (var start = 0; start < pending.size(); start += batchChunkSize) {
+            var chunk = pending.subList(start, Math.min(start + batchChunkSize, pending.size()));
+            var available = rejectTakenAccountData(chunk, outcomes);
+            if (available.isEmpty()) continue;
+            List<String> hashedPasswords;
+            try {
+                hashedPasswords = hashingService.encodeAll(available.stream()
+                        .map(entry -> entry.command().password())
+                        .toList());
+            } catch (HashingCapacityExceededException e) {
+                available.forEach(entry -> outcomes[entry.index()] = entry.rejected(HASHING_CAPACITY_MESSAGE));
+                continue;
+            }
+            persistChunk(available, hashedPasswords, outcomes);
+        }
+        return List.of(outcomes);
+    }
 
     /**
      * {@inheritDoc}
@@ -127,29 +200,39 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
         var userAccount = getUserAccountFromDatabase(command.username());
 
         if (userAccount.isEmpty()) {
-            throw new RuntimeException("User not found");
+            hashingService.matches(command.password(), unknownUserHash);
+            throw new RuntimeException("Invalid username or password");
         }
 
         UserAccount existingUser = userAccount.get();
         if(!signInPasswordMatchesHash(command, existingUser)) {
-            throw new RuntimeException("Invalid password");
+            throw new RuntimeException("Invalid username or password");
         }
+        rehashPasswordIfNeeded(command, existingUser);
 
         var token = tokenService.generateToken(existingUser);
         return Optional.of(ImmutablePair.of(existingUser, token));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean handle(SignOutCommand command) {
+        return tokenService.revokeToken(command.token());
+    }
+
 
     /**
-     * Retrieves the user type from the database using the enum projectName provided in the command.
+     * Retrieves the user type from the reference data registry using the enum projectName provided in the command.
      *
      * @param command the sign-up command containing the user type projectName
      * @return an {@code Optional<UserType>} if found
      * @throws IllegalArgumentException if the user type does not exist
      */
-    private Optional<UserType> getUserTypeFromDatabase(SignUpCommand command) {
+    private Optional<UserType> getUserType(SignUpCommand command) {
         UserTypes enumValue = UserTypes.valueOf(command.userType());
-        return userTypeRepository.findByName(enumValue);
+        return referenceDataRegistry.findByName(UserType.class, enumValue);
     }
 
     /**
@@ -169,45 +252,44 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
      * @throws IllegalArgumentException if any of the values already exist in the system
      */
     private void validateUniqueAccountData(SignUpCommand command) {
-        if (isUserNameTaken(new UserName(command.username()))) {
-            throw new IllegalArgumentException("Username is already taken.");
+        var uniqueness = userAccountRepository.findAccountUniqueness(
+                new UserName(command.username()).username(),
+                command.email(),
+                command.phone() != null ? new PhoneNumber(command.phone()).value() : null
+        );
+        if (uniqueness.usernameTaken()) {
+            throw new IllegalArgumentException(USERNAME_TAKEN_MESSAGE);
         }
-        if (isEmailTaken(new EmailAddress(command.email()))) {
-            throw new IllegalArgumentException("Email address is already taken.");
+        if (uniqueness.emailTaken()) {
+            throw new IllegalArgumentException(EMAIL_TAKEN_MESSAGE);
         }
-        if (isPhoneNumberTaken(new PhoneNumber(command.phone()))) {
-            throw new IllegalArgumentException("Person with the same phone number already exists");
+        if (uniqueness.phoneTaken()) {
+            throw new IllegalArgumentException(PHONE_NUMBER_TAKEN_MESSAGE);
         }
     }
 
     /**
-     * Checks if a username is already taken.
-     *
-     * @param name the {@link UserName} to check
-     * @return {@code true} if the username exists
-     */
-    private boolean isUserNameTaken(UserName name) {
-        return userAccountRepository.existsByUserName(name);
-    }
-
-    /**
-     * Checks if an email address is already registered.
-     *
-     * @param email the {@link EmailAddress} to check
-     * @return {@code true} if the email exists
-     */
-    private boolean isEmailTaken(EmailAddress email) {
-        return personRepository.existsByEmail(email);
-    }
-
-    /**
-     * Checks if a phone number is already registered.
+     * Translates a unique constraint violation raised by a concurrent sign-up into the same
+     * error reported by {@link #validateUniqueAccountData(SignUpCommand)}.
      *
-     * @param phone the {@link PhoneNumber} to check
-     * @return {@code true} if the phone number exists
+     * @param exception the integrity violation raised while inserting the person or the account
+     * @return the exception to throw
      */
-    private boolean isPhoneNumberTaken(PhoneNumber phone) {
-        return personRepository.existsByPhone(phone);
+    private RuntimeException translateUniqueConstraintViolation(DataIntegrityViolationException exception) {
+        var constraintName = exception.getCause() instanceof ConstraintViolationException violation
+                ? violation.getConstraintName()
+                : null;
+        if (constraintName == null) return exception;
+        if (constraintName.contains(UserAccount.USERNAME_UNIQUE_CONSTRAINT)) {
+            return new IllegalArgumentException(USERNAME_TAKEN_MESSAGE);
+        }
+        if (constraintName.contains(Person.EMAIL_UNIQUE_CONSTRAINT)) {
+            return new IllegalArgumentException(EMAIL_TAKEN_MESSAGE);
+        }
+        if (constraintName.contains(Person.PHONE_NUMBER_UNIQUE_CONSTRAINT)) {
+            return new IllegalArgumentException(PHONE_NUMBER_TAKEN_MESSAGE);
+        }
+        return exception;
     }
 
     /**
@@ -221,6 +303,19 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
         return hashingService.matches(command.password(), existingUser.getHashedPassword().hashedPassword());
     }
 
+    /**
+     * Re-encodes the stored password with the current hashing settings when it was hashed with weaker ones.
+     * Runs only after a successful sign-in, while the raw password is available.
+     *
+     * @param command       the {@link SignInCommand} containing the plain password
+     * @param existingUser  the authenticated {@link UserAccount}
+     */
+    private void rehashPasswordIfNeeded(SignInCommand command, UserAccount existingUser) {
+        if (!hashingService.upgradeEncoding(existingUser.getHashedPassword().hashedPassword())) return;
+        existingUser.rehashPassword(hashingService.encode(command.password()));
+        userAccountRepository.save(existingUser);
+    }
+
     /**
      * Retrieves a {@link UserAccount} from the database using the provided username.
      *
@@ -232,15 +327,173 @@ public class UserAccountCommandServiceImpl implements UserAccountCommandService
     }
 
     /**
-     * Retrieves the specialty from the database using the enum projectName provided in the command.
+     * Retrieves the specialty from the reference data registry using the enum projectName provided in the command.
      *
      * @param command the sign-up command containing the specialty projectName
      * @return an {@code Optional<Specialty>} if found
      * @throws IllegalArgumentException if the specialty does not exist
      */
-    private Optional<Specialty> getSpecialtyFromDatabase(SignUpCommand command) {
+    private Optional<Specialty> getSpecialty(SignUpCommand command) {
         Specialties enumValue = Specialties.valueOf(command.specialty());
-        return specialtyRepository.findByName(enumValue);
+        return referenceDataRegistry.findByName(Specialty.class, enumValue);
     }
 
+    /**
+     * Validates every entry of a batch and rejects the ones that repeat a username, email address
+     * or phone number of an earlier entry.
+     *
+     * @param commands the sign-up commands of the batch
+     * @param outcomes the per-entry outcomes, filled in for rejected entries
+     * @return the entries that may proceed, in batch order
+     */
+    private List<PendingSignUp> prepareSignUps(List<SignUpCommand> commands, SignUpOutcome[] outcomes) {
+        var usernames = new HashSet<String>();
+        var emails = new HashSet<String>();
+        var phoneNumbers = new HashSet<String>();
+        var pending = new ArrayList<PendingSignUp>(commands.size());
+        for (var index = 0; index < commands.size(); index++) {
+            var command = commands.get(index);
+            try {
+                var entry = prepareSignUp(index, command);
+                var unique = usernames.add(normalize(entry.username()))
+                        & emails.add(normalize(entry.email()))
+                        & (entry.phone() == null || phoneNumbers.add(entry.phone()));
+                if (unique) pending.add(entry);
+                else outcomes[index] = entry.rejected(DUPLICATED_IN_BATCH_MESSAGE);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                outcomes[index] = SignUpOutcome.rejected(index, command.username(), e.getMessage());
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Validates a single entry of a batch against the registered reference data.
+     *
+     * @throws IllegalArgumentException if any of the values is invalid
+     */
+    private PendingSignUp prepareSignUp(int index, SignUpCommand command) {
+        var username = new UserName(command.username()).username();
+        if (command.password() == null || command.password().isBlank()) {
+            throw new IllegalArgumentException("Password must not be null or blank");
+        }
+        var person = new Person(command);
+        var userType = getUserType(command)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid userType"));
+        Specialty specialty = null;
+        if (command.specialty() != null) {
+            specialty = getSpecialty(command)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid specialty"));
+        }
+        var phone = person.getPhone() != null ? person.getPhone().value() : null;
+        return new PendingSignUp(index, command, username, command.email(), phone, userType, specialty);
+    }
+
+    /**
+     * Rejects the entries of a chunk whose username, email address or phone number is already in use,
+     * with one query per attribute for the whole chunk.
+     *
+     * @param chunk the entries to check
+     * @param outcomes the per-entry outcomes, filled in for rejected entries
+     * @return the entries whose account data is still available
+     */
+    private List<PendingSignUp> rejectTakenAccountData(List<PendingSignUp> chunk, SignUpOutcome[] outcomes) {
+        var takenUsernames = normalize(userAccountRepository.findExistingUsernames(
+                chunk.stream().map(PendingSignUp::username).toList()));
+        var takenEmails = normalize(personRepository.findExistingEmails(
+                chunk.stream().map(PendingSignUp::email).toList()));
+        var phoneNumbers = chunk.stream().map(PendingSignUp::phone).filter(phone -> phone != null).toList();
+        var takenPhoneNumbers = phoneNumbers.isEmpty() ? Set.<String>of() : personRepository.findExistingPhoneNumbers(phoneNumbers);
+
+        var available = new ArrayList<PendingSignUp>(chunk.size());
+        for (var entry : chunk) {
+            if (takenUsernames.contains(normalize(entry.username()))) {
+                outcomes[entry.index()] = entry.rejected(USERNAME_TAKEN_MESSAGE);
+            } else if (takenEmails.contains(normalize(entry.email()))) {
+                outcomes[entry.index()] = entry.rejected(EMAIL_TAKEN_MESSAGE);
+            } else if (entry.phone() != null && takenPhoneNumbers.contains(entry.phone())) {
+                outcomes[entry.index()] = entry.rejected(PHONE_NUMBER_TAKEN_MESSAGE);
+            } else {
+                available.add(entry);
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Inserts a chunk of entries in one transaction. If a concurrent sign-up makes the chunk violate
+     * a unique constraint, each entry is inserted again in its own transaction.
+     *
+     * @param chunk the entries to insert
+     * @param hashedPasswords the hashed passwords of the entries, in the same order
+     * @param outcomes the per-entry outcomes, filled in for every entry of the chunk
+     */
+    private void persistChunk(List<PendingSignUp> chunk, List<String> hashedPasswords, SignUpOutcome[] outcomes) {
+        try {
+            var userAccounts = transactionTemplate.execute(status -> insert(chunk, hashedPasswords));
+            for (var i = 0; i < chunk.size(); i++) {
+                outcomes[chunk.get(i).index()] = SignUpOutcome.created(chunk.get(i).index(), userAccounts.get(i));
+            }
+        } catch (DataIntegrityViolationException chunkViolation) {
+            for (var i = 0; i < chunk.size(); i++) {
+                var entry = chunk.get(i);
+                var hashedPassword = hashedPasswords.get(i);
+                try {
+                    var userAccount = transactionTemplate.execute(status ->
+                            insert(List.of(entry), List.of(hashedPassword)).getFirst());
+                    outcomes[entry.index()] = SignUpOutcome.created(entry.index(), userAccount);
+                } catch (DataIntegrityViolationException e) {
+                    var reason = translateUniqueConstraintViolation(e);
+                    outcomes[entry.index()] = entry.rejected(reason instanceof IllegalArgumentException
+                            ? reason.getMessage()
+                            : ACCOUNT_NOT_CREATED_MESSAGE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts the persons of the given entries and then their accounts, grouped so that Hibernate
+     * can send them as JDBC batches. Entities are built anew on every call, so a rolled back chunk
+     * can be retried.
+     *
+     * @return the saved accounts, in the same order as the entries
+     */
+    private List<UserAccount> insert(List<PendingSignUp> entries, List<String> hashedPasswords) {
+        var persons = personRepository.saveAll(entries.stream().map(PendingSignUp::toPerson).toList());
+        var userAccounts = new ArrayList<UserAccount>(entries.size());
+        for (var i = 0; i < entries.size(); i++) {
+            var userAccount = new UserAccount(entries.get(i).username(), hashedPasswords.get(i), entries.get(i).userType());
+            userAccount.assignPersonId(persons.get(i).getId());
+            userAccounts.add(userAccount);
+        }
+        var saved = userAccountRepository.saveAll(userAccounts);
+        userAccountRepository.flush();
+        return saved;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> normalize(Set<String> values) {
+        return values.stream().map(UserAccountCommandServiceImpl::normalize).collect(Collectors.toSet());
+    }
+
+    /**
+     * Entry of a sign-up batch that passed validation, together with its resolved reference data.
+     */
+    private record PendingSignUp(int index, SignUpCommand command, String username, String email, String phone,
+                                 UserType userType, Specialty specialty) {
+
+        Person toPerson() {
+            var person = new Person(command);
+            if (specialty != null) person.assignSpecialty(specialty);
+            return person;
+        }
+
+        SignUpOutcome rejected(String error) {
+            return SignUpOutcome.rejected(index, username, error);
+        }
+    }
 }
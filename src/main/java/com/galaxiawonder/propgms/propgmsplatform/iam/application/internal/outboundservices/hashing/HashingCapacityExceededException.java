@@ -0,0 +1,22 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.hashing;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * HashingCapacityExceededException
+ *
+ * @summary
+ * Thrown when a password hashing operation cannot be accepted because the hashing capacity is exhausted.
+ * Requests that trigger it are answered with {@code 429 Too Many Requests} so clients can back off and retry.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS, reason = "Too many authentication requests, please retry later")
+public class HashingCapacityExceededException extends RuntimeException {
+    public HashingCapacityExceededException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.hashing;
 
+import java.util.List;
+
 /**
  * HashingService
  *
@@ -8,6 +10,8 @@ package com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outbo
  * Allows encoding plain text passwords and validating them against stored hashes.
  *
  * Implementations can use various algorithms such as BCrypt, SCrypt, or Argon2.
+ * Implementations may bound the number of concurrent hashing operations and throw
+ * {@link HashingCapacityExceededException} when that bound is reached.
  *
  * @since 1.0
  */
@@ -22,6 +26,15 @@ public interface HashingService {
      */
     String encode(String rawPassword);
 
+    /**
+     * Encodes several raw passwords, possibly in parallel.
+     *
+     * @param rawPasswords the plain text passwords to encode
+     * @return the hashed passwords, in the same order as the input
+     * @since 1.0
+     */
+    List<String> encodeAll(List<String> rawPasswords);
+
     /**
      * Verifies whether the given raw password matches the encoded hash.
      *
@@ -31,4 +44,14 @@ public interface HashingService {
      * @since 1.0
      */
     boolean matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Checks whether a stored hash was produced with weaker settings than the current ones
+     * and should be re-encoded the next time the raw password is available.
+     *
+     * @param encodedPassword the stored hashed password
+     * @return true if the password should be encoded again; false otherwise
+     * @since 1.0
+     */
+    boolean upgradeEncoding(String encodedPassword);
 }
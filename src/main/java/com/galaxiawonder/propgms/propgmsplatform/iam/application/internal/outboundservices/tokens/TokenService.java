@@ -45,4 +45,12 @@ public interface TokenService {
      * @return {@code true} if the token is valid; {@code false} otherwise
      */
     boolean validateToken(String token);
+
+    /**
+     * Revokes the given token so it can no longer be used, even before it expires.
+     *
+     * @param token the token to be revoked
+     * @return {@code true} if the token was valid and has been revoked; {@code false} otherwise
+     */
+    boolean revokeToken(String token);
 }
@@ -5,6 +5,8 @@ import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Use
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.BearerTokenService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * TokenServiceImpl
  *
@@ -41,7 +43,8 @@ public class TokenServiceImpl implements TokenService {
     public String generateToken(UserAccount userAccount) {
         return bearerTokenService.generateToken(
                 userAccount.getUserName().username(),
-                userAccount.getPersonId().personId().toString()
+                userAccount.getPersonId().personId().toString(),
+                List.of(userAccount.getUserType().getName().name())
         );
     }
 
@@ -68,4 +71,12 @@ public class TokenServiceImpl implements TokenService {
     public boolean validateToken(String token) {
         return bearerTokenService.validateToken(token);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean revokeToken(String token) {
+        return bearerTokenService.revokeToken(token);
+    }
 }
\ No newline at end of file
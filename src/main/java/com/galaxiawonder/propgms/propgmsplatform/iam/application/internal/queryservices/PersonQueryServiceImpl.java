@@ -4,16 +4,22 @@ import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Per
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonByEmailQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonByIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonIdByEmailQuery;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetProfileDetailsByPersonIdsQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetSpecialtyByPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.EmailAddress;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonName;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.services.PersonQueryService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections.PersonProfileProjection;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.repositories.PersonRepository;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * PersonQueryServiceImpl
@@ -88,4 +94,21 @@ public class PersonQueryServiceImpl implements PersonQueryService {
 
         return person.getSpecialty();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, ProfileDetails> handle(GetProfileDetailsByPersonIdsQuery query) {
+        if (query.personIds().isEmpty()) return Map.of();
+        return this.personRepository.findProfilesByIdIn(query.personIds()).stream()
+                .collect(Collectors.toMap(PersonProfileProjection::id, PersonQueryServiceImpl::toProfileDetails));
+    }
+
+    private static ProfileDetails toProfileDetails(PersonProfileProjection projection) {
+        return new ProfileDetails(
+                new PersonName(projection.firstName(), projection.lastName()),
+                new EmailAddress(projection.email())
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates;
 
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events.PersonChangedEvent;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.EmailAddress;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonName;
@@ -26,8 +27,17 @@ import java.util.Objects;
  * @since 1.0
  */
 @Entity
-@Table(name = "persons")
+@Table(name = "persons", uniqueConstraints = {
+        @UniqueConstraint(name = Person.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email"),
+        @UniqueConstraint(name = Person.PHONE_NUMBER_UNIQUE_CONSTRAINT, columnNames = "phone_number")
+})
 public class Person extends AuditableAbstractAggregateRoot<Person> {
+    /** Name of the unique constraint on the email column */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_persons_email";
+
+    /** Name of the unique constraint on the phone number column */
+    public static final String PHONE_NUMBER_UNIQUE_CONSTRAINT = "uk_persons_phone_number";
+
     /** Full name of the person, encapsulated in a value object */
     @Getter
     @Embedded
@@ -96,8 +106,14 @@ public class Person extends AuditableAbstractAggregateRoot<Person> {
     }
 
 
+    /**
+     * Assigns a specialty to this person.
+     *
+     * @param specialty the specialty, may be {@code null}
+     */
     public void assignSpecialty(Specialty specialty) {
         this.specialty = specialty;
+        registerChange();
     }
 
     /**
@@ -108,6 +124,7 @@ public class Person extends AuditableAbstractAggregateRoot<Person> {
      */
     public void assignPhoneNumber(PhoneNumber phone) {
         this.phone = Objects.requireNonNull(phone, "Phone number is required");
+        registerChange();
     }
 
     /**
@@ -118,6 +135,7 @@ public class Person extends AuditableAbstractAggregateRoot<Person> {
      */
     public void assignProfessionalId(ProfessionalId professionalId) {
         this.professionalId = Objects.requireNonNull(professionalId, "Professional ID is required");
+        registerChange();
     }
 
     public PersonId getIdAsValueObject() {
@@ -127,4 +145,19 @@ public class Person extends AuditableAbstractAggregateRoot<Person> {
     public boolean hasThisPersonId(PersonId personId) {
         return Objects.equals(personId.personId(), this.getId());
     }
-}
\ No newline at end of file
+
+    /**
+     * Registers a {@link PersonChangedEvent} when the person is about to be removed.
+     */
+    @PreRemove
+    private void onRemove() {
+        registerChange();
+    }
+
+    /**
+     * Registers a {@link PersonChangedEvent} if this person has already been persisted.
+     */
+    private void registerChange() {
+        if (getId() != null) this.addDomainEvent(new PersonChangedEvent(this, getId()));
+    }
+}
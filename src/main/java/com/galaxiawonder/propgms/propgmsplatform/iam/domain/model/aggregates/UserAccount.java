@@ -1,6 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates;
 
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.entities.UserType;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events.UserAccountCredentialsChangedEvent;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.Password;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.UserName;
@@ -21,7 +22,10 @@ import lombok.Getter;
  * @since 1.0
  */
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = UserAccount.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"))
 public class UserAccount extends AuditableAbstractAggregateRoot<UserAccount> {
+    /** Name of the unique constraint on the username column */
+    public static final String USERNAME_UNIQUE_CONSTRAINT = "uk_user_accounts_username";
 
     /** Unique username for account authentication, represented as a description object */
     @Getter
@@ -74,10 +78,23 @@ public class UserAccount extends AuditableAbstractAggregateRoot<UserAccount> {
     /**
      * Changes the current password to a new one.
      * The password should be pre-encoded before being passed.
+     * Registers a {@link UserAccountCredentialsChangedEvent}.
      *
      * @param password the new hashed password
      */
     public void changePassword(String password) {
         this.hashedPassword = new Password(password);
+        this.addDomainEvent(new UserAccountCredentialsChangedEvent(this, userName.username(), true));
+    }
+
+    /**
+     * Replaces the stored hash with a new hash of the same password, such as one with a higher cost.
+     * Registers a {@link UserAccountCredentialsChangedEvent} that leaves issued tokens valid.
+     *
+     * @param password the new hash of the current password
+     */
+    public void rehashPassword(String password) {
+        this.hashedPassword = new Password(password);
+        this.addDomainEvent(new UserAccountCredentialsChangedEvent(this, userName.username(), false));
     }
 }
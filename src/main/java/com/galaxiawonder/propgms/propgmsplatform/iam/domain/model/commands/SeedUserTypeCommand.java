@@ -1,14 +0,0 @@
-package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands;
-
-/**
- * SeedUserTypeCommand
- *
- * @summary
- * A command object used to trigger the seeding of default user types in the system.
- * This command contains no additional data and serves as a signal to perform the operation.
- *
- * @since 1.0
- */
-public record SeedUserTypeCommand() {
-}
-
@@ -0,0 +1,14 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands;
+
+/**
+ * Command to sign out a user.
+ * <p>
+ *     This command is used to revoke the token presented by the user, so it can no longer be used.
+ * </p>
+ */
+public record SignOutCommand(String token) {
+    public SignOutCommand {
+        if (token == null || token.isBlank())
+            throw new IllegalArgumentException("Token cannot be null or blank");
+    }
+}
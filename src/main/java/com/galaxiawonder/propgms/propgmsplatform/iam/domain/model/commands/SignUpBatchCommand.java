@@ -0,0 +1,25 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * SignUpBatchCommand
+ *
+ * @summary
+ * Command object used to request the creation of several user accounts at once, such as when a whole
+ * firm is onboarded. Every entry is handled as an independent {@link SignUpCommand}, so one invalid
+ * entry does not prevent the others from being created.
+ *
+ * @param commands the sign-up commands, in the order in which their results are reported
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record SignUpBatchCommand(List<SignUpCommand> commands) {
+    public SignUpBatchCommand {
+        if (commands == null || commands.isEmpty())
+            throw new IllegalArgumentException("Sign-up batch cannot be null or empty");
+        commands = List.copyOf(commands);
+    }
+}
@@ -35,7 +35,7 @@ public class UserType {
 
     /** Enum projectName representing the user type classification */
     @Enumerated(EnumType.STRING)
-    @Column(length = 20)
+    @Column(length = 20, unique = true)
     private UserTypes name;
 
     /**
@@ -0,0 +1,25 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * PersonChangedEvent
+ *
+ * @summary
+ * Domain event raised when a persisted person is modified or removed,
+ * so that any profile details cached for its identifier can be discarded.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Getter
+public class PersonChangedEvent extends ApplicationEvent {
+    private final Long personId;
+
+    public PersonChangedEvent(Object source, Long personId) {
+        super(source);
+        this.personId = personId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * UserAccountCredentialsChangedEvent
+ *
+ * @summary
+ * Domain event raised when the credentials of a user account change,
+ * so that any principal cached for its username can be discarded and, when the
+ * password itself changed, every token issued to it revoked.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Getter
+public class UserAccountCredentialsChangedEvent extends ApplicationEvent {
+    private final String username;
+
+    /** Whether the password changed, rather than only the hash of the same password */
+    private final boolean passwordChanged;
+
+    public UserAccountCredentialsChangedEvent(Object source, String username, boolean passwordChanged) {
+        super(source);
+        this.username = username;
+        this.passwordChanged = passwordChanged;
+    }
+}
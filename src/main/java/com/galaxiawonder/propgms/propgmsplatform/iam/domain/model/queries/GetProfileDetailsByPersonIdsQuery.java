@@ -0,0 +1,27 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries;
+
+import java.util.Set;
+
+/**
+ * GetProfileDetailsByPersonIdsQuery
+ *
+ * @summary
+ * Query object used to retrieve the basic profile information (name and email)
+ * of several persons at once, using their unique identifiers.
+ *
+ * <p>This query is typically handled within the IAM context to resolve, in a single round trip,
+ * the identity details needed by listings of other bounded contexts.</p>
+ *
+ * @param personIds the unique identifiers of the persons to be retrieved
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record GetProfileDetailsByPersonIdsQuery(Set<Long> personIds) {
+    public GetProfileDetailsByPersonIdsQuery {
+        if (personIds == null)
+            throw new IllegalArgumentException("Person ids cannot be null");
+        personIds = Set.copyOf(personIds);
+    }
+}
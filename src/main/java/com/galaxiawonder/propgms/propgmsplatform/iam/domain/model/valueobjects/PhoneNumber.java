@@ -20,7 +20,7 @@ import java.util.regex.Pattern;
  */
 @Embeddable
 public record PhoneNumber(
-        @Column(name = "phone_number", unique = true, length = 16, columnDefinition = "VARCHAR(16)")
+        @Column(name = "phone_number", length = 16, columnDefinition = "VARCHAR(16)")
         String value
 ) {
     private static final Pattern E164_PATTERN = Pattern.compile("^\\+\\d{7,15}$");
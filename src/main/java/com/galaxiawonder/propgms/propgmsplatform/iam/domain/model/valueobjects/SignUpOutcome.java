@@ -0,0 +1,53 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.UserAccount;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpBatchCommand;
+
+/**
+ * SignUpOutcome
+ *
+ * @summary
+ * Result of a single entry of a {@link SignUpBatchCommand}. Holds either the created
+ * {@link UserAccount} or the reason why the entry was rejected.
+ *
+ * @param index       the position of the entry in the batch
+ * @param username    the username requested by the entry
+ * @param userAccount the created account, {@code null} if the entry was rejected
+ * @param error       the rejection reason, {@code null} if the account was created
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record SignUpOutcome(int index, String username, UserAccount userAccount, String error) {
+
+    /**
+     * Creates the outcome of an entry whose account was created.
+     *
+     * @param index the position of the entry in the batch
+     * @param userAccount the created account
+     * @return a successful {@code SignUpOutcome}
+     */
+    public static SignUpOutcome created(int index, UserAccount userAccount) {
+        return new SignUpOutcome(index, userAccount.getUserName().username(), userAccount, null);
+    }
+
+    /**
+     * Creates the outcome of an entry that was rejected.
+     *
+     * @param index the position of the entry in the batch
+     * @param username the username requested by the entry
+     * @param error the rejection reason
+     * @return a failed {@code SignUpOutcome}
+     */
+    public static SignUpOutcome rejected(int index, String username, String error) {
+        return new SignUpOutcome(index, username, null, error);
+    }
+
+    /**
+     * @return {@code true} if the account was created
+     */
+    public boolean isCreated() {
+        return userAccount != null;
+    }
+}
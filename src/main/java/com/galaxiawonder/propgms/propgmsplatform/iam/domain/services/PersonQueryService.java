@@ -4,9 +4,12 @@ import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Per
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonByEmailQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonByIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetPersonIdByEmailQuery;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetProfileDetailsByPersonIdsQuery;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.queries.GetSpecialtyByPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -58,5 +61,16 @@ public interface PersonQueryService {
     Long handle(GetPersonIdByEmailQuery query);
 
     Specialty handle(GetSpecialtyByPersonIdQuery query);
+
+    /**
+     * Handles the retrieval of the profile details of several persons in a single round trip.
+     *
+     * @param query the {@link GetProfileDetailsByPersonIdsQuery} containing the person IDs to search for
+     * @return the {@link ProfileDetails} of every existing person, keyed by person ID;
+     *         unknown IDs are omitted
+     *
+     * @since 1.0
+     */
+    Map<Long, ProfileDetails> handle(GetProfileDetailsByPersonIdsQuery query);
 }
 
@@ -3,9 +3,13 @@ package com.galaxiawonder.propgms.propgmsplatform.iam.domain.services;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Person;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.UserAccount;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignInCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignOutCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpBatchCommand;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.SignUpOutcome;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -32,6 +36,17 @@ public interface UserAccountCommandService {
      */
     Optional<UserAccount> handle(SignUpCommand command);
 
+    /**
+     * Handles the creation of several {@link UserAccount}s and their associated {@link Person}s
+     * based on the provided {@link SignUpBatchCommand}. Each entry succeeds or fails on its own.
+     *
+     * @param command the {@link SignUpBatchCommand} containing one sign-up per account
+     * @return one {@link SignUpOutcome} per entry, in the same order as the batch
+     *
+     * @since 1.0
+     */
+    List<SignUpOutcome> handle(SignUpBatchCommand command);
+
     /**
      * Handles the authentication of a user account based on provided credentials.
      *
@@ -48,4 +63,14 @@ public interface UserAccountCommandService {
      * @since 1.0
      */
     Optional<ImmutablePair<UserAccount, String>> handle(SignInCommand command);
+
+    /**
+     * Handles the sign-out of a user account by revoking the token it presented.
+     *
+     * @param command the {@link SignOutCommand} containing the token to revoke
+     * @return {@code true} if the token was valid and has been revoked; {@code false} otherwise
+     *
+     * @since 1.0
+     */
+    boolean handle(SignOutCommand command);
 }
@@ -0,0 +1,135 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthenticationAuditChannel
+ *
+ * @summary
+ * Asynchronous, batched and sampled channel for authentication audit events.
+ * Request threads only decide whether an event is sampled and offer it to a bounded queue;
+ * a single background thread drains the queue in batches and writes them to the
+ * {@code iam.authentication.audit} logger. When the queue is full, events are dropped and counted
+ * instead of blocking the request.
+ *
+ * <p>Successful and failed attempts have independent sample rates, so failures can be kept in full
+ * while the happy path is only sampled.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class AuthenticationAuditChannel {
+    private static final Logger AUDIT_LOGGER = LoggerFactory.getLogger("iam.authentication.audit");
+
+    private final BlockingQueue<AuthenticationAuditEvent> queue;
+    private final double successSampleRate;
+    private final double failureSampleRate;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Counter droppedEvents;
+    private final Thread drainer;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructs the channel with its configured queue bounds and sample rates.
+     *
+     * @param meterRegistry the registry where dropped events are counted
+     * @param successSampleRate fraction of successful attempts to record, between 0 and 1
+     * @param failureSampleRate fraction of rejected or failed attempts to record, between 0 and 1
+     * @param queueCapacity the maximum number of pending events
+     * @param batchSize the maximum number of events written per batch
+     * @param flushIntervalMillis the maximum time an event waits before its batch is written
+     */
+    public AuthenticationAuditChannel(MeterRegistry meterRegistry,
+                                      @Value("${authorization.audit.success-sample-rate:0.01}") double successSampleRate,
+                                      @Value("${authorization.audit.failure-sample-rate:1.0}") double failureSampleRate,
+                                      @Value("${authorization.audit.queue-capacity:10000}") int queueCapacity,
+                                      @Value("${authorization.audit.batch-size:500}") int batchSize,
+                                      @Value("${authorization.audit.flush-interval-millis:1000}") long flushIntervalMillis) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.successSampleRate = successSampleRate;
+        this.failureSampleRate = failureSampleRate;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.droppedEvents = Counter.builder("iam.authentication.audit.dropped")
+                .description("Authentication audit events dropped because the queue was full")
+                .register(meterRegistry);
+        this.drainer = Thread.ofPlatform()
+                .name("authentication-audit")
+                .daemon()
+                .unstarted(this::drain);
+    }
+
+    @PostConstruct
+    void start() {
+        drainer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        drainer.interrupt();
+        drainer.join(flushIntervalMillis);
+    }
+
+    /**
+     * Records an authentication attempt if it is sampled. Never blocks and never formats strings.
+     *
+     * @param outcome the result of the attempt
+     * @param reason a short machine-readable reason, {@code null} on success
+     * @param startNanos the {@link System#nanoTime()} value taken when the attempt started
+     */
+    public void record(AuthenticationOutcome outcome, String reason, long startNanos) {
+        var sampleRate = outcome == AuthenticationOutcome.AUTHENTICATED ? successSampleRate : failureSampleRate;
+        if (sampleRate <= 0.0 || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) return;
+        var event = new AuthenticationAuditEvent(Instant.now(), outcome, reason, System.nanoTime() - startNanos);
+        if (!queue.offer(event)) droppedEvents.increment();
+    }
+
+    private void drain() {
+        List<AuthenticationAuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                var first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                queue.drainTo(batch);
+                write(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuthenticationAuditEvent> batch) {
+        if (batch.isEmpty() || !AUDIT_LOGGER.isInfoEnabled()) return;
+        for (var event : batch) {
+            AUDIT_LOGGER.info("timestamp={} outcome={} reason={} latencyMicros={}",
+                    event.timestamp(), event.outcome(), event.reason(),
+                    TimeUnit.NANOSECONDS.toMicros(event.latencyNanos()));
+        }
+    }
+}
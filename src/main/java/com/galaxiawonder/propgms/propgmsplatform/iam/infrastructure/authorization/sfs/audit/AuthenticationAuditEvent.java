@@ -0,0 +1,21 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.audit;
+
+import java.time.Instant;
+
+/**
+ * AuthenticationAuditEvent
+ *
+ * @summary
+ * Structured record of a single authentication attempt. It never carries the raw token.
+ *
+ * @param timestamp the instant at which the attempt finished
+ * @param outcome the result of the attempt
+ * @param reason a short machine-readable reason for rejections and errors, {@code null} on success
+ * @param latencyNanos the time spent authenticating the request, in nanoseconds
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record AuthenticationAuditEvent(Instant timestamp, AuthenticationOutcome outcome, String reason, long latencyNanos) {
+}
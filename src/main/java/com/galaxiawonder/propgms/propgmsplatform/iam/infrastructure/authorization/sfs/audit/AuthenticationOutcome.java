@@ -0,0 +1,20 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.audit;
+
+/**
+ * AuthenticationOutcome
+ *
+ * @summary
+ * Result of processing the credentials presented by a request.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public enum AuthenticationOutcome {
+    /** The request carried a valid token and a principal was established. */
+    AUTHENTICATED,
+    /** The request carried credentials that were rejected. */
+    REJECTED,
+    /** Processing the credentials failed unexpectedly. */
+    ERROR
+}
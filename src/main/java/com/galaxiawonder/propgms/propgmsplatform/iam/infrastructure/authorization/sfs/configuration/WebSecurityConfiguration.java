@@ -1,13 +1,19 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.configuration;
 
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.audit.AuthenticationAuditChannel;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services.VerifiedTokenCache;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -17,10 +23,17 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Web Security Configuration.
@@ -34,25 +47,94 @@ import java.util.List;
 @EnableMethodSecurity
 public class WebSecurityConfiguration {
 
+    /**
+     * Paths that are reachable without authentication.
+     * The same list backs the permitAll rule and the paths skipped by the {@link BearerAuthorizationRequestFilter}.
+     */
+    private static final String[] PUBLIC_PATHS = {
+            "/api/v1/auth/signup",
+            "/api/v1/auth/signin",
+            "/api/v1/auth/signout",
+            "/actuator/health",
+            "/actuator/health/**",
+            "/v3/api-docs/**",
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/swagger-resources/**",
+            "/webjars/**"
+    };
+
+    /**
+     * Paths that only operators may reach.
+     * Operators are the accounts listed in {@code authorization.operators.usernames}.
+     */
+    private static final String[] OPERATOR_PATHS = {
+            "/api/v1/auth/signup/batch",
+            "/actuator/metrics",
+            "/actuator/metrics/**",
+            "/actuator/sqlstatements"
+    };
+
     private final UserDetailsService userDetailsService;
     private final BearerTokenService tokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final BCryptHashingService hashingService;
     private final AuthenticationEntryPoint unauthorizedRequestHandler;
+    private final AuthenticationAuditChannel auditChannel;
+    private final boolean statelessPrincipal;
+    private final Set<String> operatorUsernames;
 
     public WebSecurityConfiguration(
-            @Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService,
+            @Qualifier("cachedUserDetailsService") UserDetailsService userDetailsService,
             BearerTokenService tokenService,
+            VerifiedTokenCache verifiedTokenCache,
             BCryptHashingService hashingService,
-            AuthenticationEntryPoint authenticationEntryPoint) {
+            AuthenticationEntryPoint authenticationEntryPoint,
+            AuthenticationAuditChannel auditChannel,
+            @Value("${authorization.jwt.stateless-principal.enabled:false}") boolean statelessPrincipal,
+            @Value("${authorization.operators.usernames:}") List<String> operatorUsernames) {
         this.userDetailsService = userDetailsService;
         this.tokenService = tokenService;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.hashingService = hashingService;
         this.unauthorizedRequestHandler = authenticationEntryPoint;
+        this.auditChannel = auditChannel;
+        this.statelessPrincipal = statelessPrincipal;
+        this.operatorUsernames = operatorUsernames.stream()
+                .map(String::trim)
+                .filter(username -> !username.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     @Bean
     public BearerAuthorizationRequestFilter authorizationRequestFilter() {
-        return new BearerAuthorizationRequestFilter(tokenService, userDetailsService);
+        return new BearerAuthorizationRequestFilter(tokenService, verifiedTokenCache, userDetailsService, auditChannel, publicPathsMatcher(), statelessPrincipal);
+    }
+
+    /**
+     * Builds a request matcher for the paths that are reachable without authentication.
+     * @return A {@link RequestMatcher} matching any of the {@link #PUBLIC_PATHS}.
+     */
+    private static RequestMatcher publicPathsMatcher() {
+        return new OrRequestMatcher(Arrays.stream(PUBLIC_PATHS)
+                .map(path -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(path))
+                .toList());
+    }
+
+    /**
+     * Builds the authorization rule of the {@link #OPERATOR_PATHS}.
+     * The username is checked against the configured operators on every request instead of being
+     * carried as an authority in the token, so a token issued before an operator was removed grants nothing.
+     * @return An {@link AuthorizationManager} granting access to authenticated operators only.
+     */
+    private AuthorizationManager<RequestAuthorizationContext> operatorsOnly() {
+        return (authentication, context) -> {
+            var current = authentication.get();
+            var isOperator = current != null && current.isAuthenticated()
+                    && !(current instanceof AnonymousAuthenticationToken)
+                    && operatorUsernames.contains(current.getName());
+            return new AuthorizationDecision(isOperator);
+        };
     }
 
     @Bean
@@ -73,14 +155,8 @@ public class WebSecurityConfiguration {
                 .exceptionHandling(eh -> eh.authenticationEntryPoint(unauthorizedRequestHandler))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/api/v1/auth/**",
-                                "/v3/api-docs/**",
-                                "/swagger-ui.html",
-                                "/swagger-ui/**",
-                                "/swagger-resources/**",
-                                "/webjars/**"
-                        ).permitAll()
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
+                        .requestMatchers(OPERATOR_PATHS).access(operatorsOnly())
                         .anyRequest().authenticated()
                 );
 
@@ -1,6 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.model;
 
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.UserAccount;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -64,4 +65,19 @@ public class UserDetailsImpl implements UserDetails {
                 Collections.singletonList(authority)
         );
     }
+
+    /**
+     * Builds a {@link UserDetailsImpl} instance straight from the claims of a verified token,
+     * without loading the {@link UserAccount}. The resulting principal carries no password.
+     *
+     * @param claims the verified token claims, including the authorities embedded at sign-in
+     * @return a Spring Security compatible {@link UserDetails} object
+     */
+    public static UserDetailsImpl build(VerifiedTokenClaims claims) {
+        var authorities = claims.authorities().stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+
+        return new UserDetailsImpl(claims.username(), null, authorities);
+    }
 }
\ No newline at end of file
@@ -1,17 +1,22 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.pipeline;
 
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.audit.AuthenticationAuditChannel;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.audit.AuthenticationOutcome;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -22,20 +27,46 @@ import java.io.IOException;
  * This class is responsible for filtering requests and setting the user authentication.
  * It extends the OncePerRequestFilter class.
  * </p>
+ * <p>
+ * When the stateless principal mode is enabled, the principal is built straight from the
+ * verified token claims and the user account is only loaded for tokens issued without authorities.
+ * </p>
+ * <p>
+ * Outcomes are reported to the {@link AuthenticationAuditChannel}; the raw token is never logged.
+ * </p>
  * @see OncePerRequestFilter
  */
 public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(BearerAuthorizationRequestFilter.class);
     private final BearerTokenService tokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
-
-    @Qualifier("defaultUserDetailsService")
+    @Qualifier("cachedUserDetailsService")
     private final UserDetailsService userDetailsService;
 
-    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, UserDetailsService userDetailsService) {
+    private final AuthenticationAuditChannel auditChannel;
+
+    private final RequestMatcher publicPaths;
+
+    private final boolean statelessPrincipal;
+
+    public BearerAuthorizationRequestFilter(BearerTokenService tokenService, VerifiedTokenCache verifiedTokenCache, UserDetailsService userDetailsService, AuthenticationAuditChannel auditChannel, RequestMatcher publicPaths, boolean statelessPrincipal) {
         this.tokenService = tokenService;
+        this.verifiedTokenCache = verifiedTokenCache;
         this.userDetailsService = userDetailsService;
+        this.auditChannel = auditChannel;
+        this.publicPaths = publicPaths;
+        this.statelessPrincipal = statelessPrincipal;
+    }
+
+    /**
+     * Skips the filter for paths that are reachable without authentication.
+     * @param request The request object.
+     * @return {@code true} if the request targets a public path.
+     */
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return publicPaths.matches(request);
     }
 
     /**
@@ -46,20 +77,34 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
      */
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String token = tokenService.getBearerTokenFrom(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long startNanos = System.nanoTime();
         try {
-            String token = tokenService.getBearerTokenFrom(request);
-            LOGGER.info("Token: {}", token);
-            if (token != null && tokenService.validateToken(token)) {
-                String username = tokenService.getUsernameFromToken(token);
-                var userDetails = userDetailsService.loadUserByUsername(username);
+            var verification = verifiedTokenCache.verify(token);
+            if (verification.isVerified()) {
+                var userDetails = getUserDetailsFrom(verification.claims());
                 SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
+                auditChannel.record(AuthenticationOutcome.AUTHENTICATED, null, startNanos);
             } else {
-                LOGGER.info("Token is not valid");
+                auditChannel.record(AuthenticationOutcome.REJECTED, verification.rejection().name(), startNanos);
             }
-
         } catch (Exception e) {
-            LOGGER.error("Cannot set user authentication: {}", e.getMessage());
+            auditChannel.record(AuthenticationOutcome.ERROR, e.getClass().getSimpleName(), startNanos);
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Resolves the principal of a verified token, avoiding the user account lookup when possible.
+     * @param claims The verified token claims.
+     * @return The user details of the token subject.
+     */
+    private UserDetails getUserDetailsFrom(VerifiedTokenClaims claims) {
+        if (statelessPrincipal && claims.hasAuthorities()) return UserDetailsImpl.build(claims);
+        return userDetailsService.loadUserByUsername(claims.username());
+    }
 }
@@ -0,0 +1,70 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.authorization.sfs.services;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events.UserAccountCredentialsChangedEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * This class wraps the default {@link UserDetailsService} with a bounded, short-lived cache keyed by username.
+ * <p>
+ * Entries are evicted after the configured TTL, when the size bound is reached, or as soon as the
+ * credentials of the account change. Hit ratio and load latency are
+ * published through Micrometer under the {@code iam.user-details} cache name.
+ * </p>
+ */
+@Service(value = "cachedUserDetailsService")
+public class CachedUserDetailsService implements UserDetailsService {
+    private static final String CACHE_NAME = "iam.user-details";
+
+    private final UserDetailsService userDetailsService;
+    private final LoadingCache<String, UserDetails> cache;
+    private final boolean enabled;
+
+    public CachedUserDetailsService(@Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${authorization.user-details.cache.enabled:true}") boolean enabled,
+                                    @Value("${authorization.user-details.cache.max-size:10000}") long maximumSize,
+                                    @Value("${authorization.user-details.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.userDetailsService = userDetailsService;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(userDetailsService::loadUserByUsername);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * This method returns the cached user details, loading them from the database on a miss.
+     * Unknown usernames are never cached.
+     * @param username The username.
+     * @return The UserDetails object.
+     * @throws UsernameNotFoundException If the user is not found.
+     */
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        if (!enabled) return userDetailsService.loadUserByUsername(username);
+        return cache.get(username);
+    }
+
+    /**
+     * This method evicts the cached user details once the new credentials have been committed.
+     * @param event The credentials changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserAccountCredentialsChangedEvent event) {
+        cache.invalidate(event.getUsername());
+    }
+}
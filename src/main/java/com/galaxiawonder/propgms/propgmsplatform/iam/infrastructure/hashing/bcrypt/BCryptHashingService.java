@@ -9,5 +9,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
  * It extends the {@link HashingService} and {@link PasswordEncoder} interfaces.
  */
 public interface BCryptHashingService extends HashingService, PasswordEncoder {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    boolean upgradeEncoding(String encodedPassword);
 }
 
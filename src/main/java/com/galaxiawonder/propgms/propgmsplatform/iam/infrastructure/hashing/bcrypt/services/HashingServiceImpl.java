@@ -1,19 +1,82 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.hashing.bcrypt.services;
 
+import com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.hashing.HashingCapacityExceededException;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * This class implements the {@link BCryptHashingService} interface.
  * It is used to hash passwords using the BCrypt algorithm.
+ * <p>
+ * Hashing runs on a dedicated, bounded executor so that bursts of sign-ups and sign-ins cannot
+ * monopolize the request threads. When both the workers and the queue are busy, the operation is
+ * rejected with a {@link HashingCapacityExceededException}. Batches are hashed in windows no larger
+ * than the pool, so a bulk request never fills the queue left for interactive sign-ins.
+ * </p>
+ * <p>
+ * The BCrypt cost is either configured explicitly or calibrated at startup as the highest cost
+ * whose hashing time stays within the configured target latency. Calibrated costs depend on the
+ * host and its load, so deployed profiles pin the cost and calibration is meant to pick its value.
+ * </p>
  */
 @Service
 public class HashingServiceImpl implements BCryptHashingService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashingServiceImpl.class);
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
     private final BCryptPasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+    private final int poolSize;
+
+    HashingServiceImpl(MeterRegistry meterRegistry,
+                       @Value("${authorization.hashing.bcrypt.strength:0}") int strength,
+                       @Value("${authorization.hashing.bcrypt.target-millis:250}") long targetMillis,
+                       @Value("${authorization.hashing.executor.threads:0}") int threads,
+                       @Value("${authorization.hashing.executor.queue-capacity:64}") int queueCapacity,
+                       @Value("${authorization.hashing.executor.timeout-millis:5000}") long timeoutMillis) {
+        var effectiveStrength = strength > 0 ? strength : calibrateStrength(targetMillis);
+        LOGGER.info("Using BCrypt strength {}", effectiveStrength);
+        this.passwordEncoder = new BCryptPasswordEncoder(effectiveStrength);
+        this.timeoutMillis = timeoutMillis;
+        this.poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        var threadCount = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> Thread.ofPlatform()
+                        .name("password-hashing-" + threadCount.incrementAndGet())
+                        .daemon()
+                        .unstarted(runnable),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "iam.password-hashing");
+    }
 
-    HashingServiceImpl() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
     }
 
     /**
@@ -21,7 +84,7 @@ public class HashingServiceImpl implements BCryptHashingService {
      */
     @Override
     public String encode(CharSequence rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return submit(() -> passwordEncoder.encode(rawPassword));
     }
 
     /**
@@ -29,7 +92,7 @@ public class HashingServiceImpl implements BCryptHashingService {
      */
     @Override
     public boolean matches(CharSequence rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
     }
 
     /**
@@ -37,7 +100,31 @@ public class HashingServiceImpl implements BCryptHashingService {
      */
     @Override
     public String encode(String rawPassword) {
-        return passwordEncoder.encode(rawPassword);
+        return encode((CharSequence) rawPassword);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> encodeAll(List<String> rawPasswords) {
+        var encoded = new ArrayList<String>(rawPasswords.size());
+        for (var start = 0; start < rawPasswords.size(); start += poolSize) {
+            var window = rawPasswords.subList(start, Math.min(start + poolSize, rawPasswords.size()));
+            var futures = new ArrayList<Future<String>>(window.size());
+            try {
+                for (var rawPassword : window) {
+                    futures.add(enqueue(() -> passwordEncoder.encode(rawPassword)));
+                }
+                for (var future : futures) {
+                    encoded.add(await(future));
+                }
+            } catch (RuntimeException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw e;
+            }
+        }
+        return encoded;
     }
 
     /**
@@ -45,6 +132,77 @@ public class HashingServiceImpl implements BCryptHashingService {
      */
     @Override
     public boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+        return matches((CharSequence) rawPassword, encodedPassword);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Runs a hashing operation on the dedicated executor and waits for its result.
+     *
+     * @param operation the hashing operation
+     * @return the result of the operation
+     * @throws HashingCapacityExceededException if the executor is saturated or the operation times out
+     */
+    private <T> T submit(Callable<T> operation) {
+        return await(enqueue(operation));
+    }
+
+    private <T> Future<T> enqueue(Callable<T> operation) {
+        try {
+            return executor.submit(operation);
+        } catch (RejectedExecutionException e) {
+            throw new HashingCapacityExceededException("Password hashing capacity exhausted");
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new HashingCapacityExceededException("Password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Finds the highest BCrypt strength whose hashing time does not exceed the target latency.
+     * Each additional strength step doubles the hashing time. The encoder is warmed up first,
+     * so that class loading and interpreted code do not inflate the first measurement.
+     *
+     * @param targetMillis the target hashing latency
+     * @return the calibrated strength, never below {@link #MIN_STRENGTH}
+     */
+    private static int calibrateStrength(long targetMillis) {
+        for (var round = 0; round < WARMUP_ROUNDS; round++) measure(MIN_STRENGTH);
+        var strength = MIN_STRENGTH;
+        var elapsedMillis = measure(strength);
+        while (strength < MAX_STRENGTH && elapsedMillis * 2 <= targetMillis) {
+            strength++;
+            elapsedMillis = measure(strength);
+        }
+        LOGGER.info("Calibrated BCrypt strength {} ({} ms, target {} ms); set authorization.hashing.bcrypt.strength to pin it",
+                strength, elapsedMillis, targetMillis);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        var encoder = new BCryptPasswordEncoder(strength);
+        var start = System.nanoTime();
+        encoder.encode(CALIBRATION_PASSWORD);
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
     }
-}
\ No newline at end of file
+}
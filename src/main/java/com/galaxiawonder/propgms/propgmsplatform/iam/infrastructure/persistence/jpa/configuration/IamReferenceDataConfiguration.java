@@ -0,0 +1,27 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.configuration;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.entities.UserType;
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.UserTypes;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.repositories.UserTypeRepository;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * IamReferenceDataConfiguration
+ *
+ * @summary
+ * Declares the enum-backed lookup tables of the identity and access management context, so that they are
+ * resolved through the shared reference data registry.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Configuration
+public class IamReferenceDataConfiguration {
+    @Bean
+    ReferenceDataTable<UserTypes, UserType> userTypeReferenceData(UserTypeRepository repository) {
+        return new ReferenceDataTable<>(UserTypes.class, UserType.class, repository, UserType::getName, UserType::new);
+    }
+}
@@ -0,0 +1,19 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections;
+
+/**
+ * AccountUniquenessProjection
+ *
+ * @summary
+ * Read-only projection answering, in a single query, whether the identifying data of a new account
+ * is already in use.
+ *
+ * @param usernameTaken whether a user account already uses the username
+ * @param emailTaken whether a person already uses the email address
+ * @param phoneTaken whether a person already uses the phone number
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record AccountUniquenessProjection(boolean usernameTaken, boolean emailTaken, boolean phoneTaken) {
+}
@@ -0,0 +1,20 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections;
+
+/**
+ * PersonProfileProjection
+ *
+ * @summary
+ * Read-only projection with the columns needed to build the profile details of a person,
+ * so that they can be resolved without loading the {@code Person} aggregate and its specialty.
+ *
+ * @param id the identifier of the person
+ * @param firstName the first name of the person
+ * @param lastName the last name of the person
+ * @param email the email address of the person
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record PersonProfileProjection(Long id, String firstName, String lastName, String email) {
+}
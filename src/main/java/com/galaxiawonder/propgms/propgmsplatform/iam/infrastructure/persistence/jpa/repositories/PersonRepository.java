@@ -3,10 +3,16 @@ package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.Person;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.EmailAddress;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.PhoneNumber;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections.PersonProfileProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * PersonRepository
@@ -47,4 +53,46 @@ public interface PersonRepository extends JpaRepository<Person, Long> {
      * @since 1.0
      */
     Optional<Person> findByEmail(EmailAddress emailAddress);
+
+    /**
+     * Returns which of the given email addresses are already in use, in a single query.
+     *
+     * @param emails the email addresses to check
+     * @return the subset of {@code emails} that belong to an existing person
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT p.email.address FROM Person p WHERE p.email.address IN :emails
+""")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * Returns which of the given phone numbers are already in use, in a single query.
+     *
+     * @param phoneNumbers the phone numbers to check
+     * @return the subset of {@code phoneNumbers} that belong to an existing person
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT p.phone.value FROM Person p WHERE p.phone.value IN :phoneNumbers
+""")
+    Set<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    /**
+     * Retrieves the profile columns of every person whose identifier is in the given collection, in a single query.
+     *
+     * @param ids the identifiers of the persons
+     * @return one {@link PersonProfileProjection} per existing person; unknown identifiers are omitted
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections.PersonProfileProjection(
+        p.id, p.name.firstName, p.name.lastName, p.email.address
+    )
+    FROM Person p WHERE p.id IN :ids
+""")
+    List<PersonProfileProjection> findProfilesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -2,9 +2,14 @@ package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence
 
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.aggregates.UserAccount;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.UserName;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections.AccountUniquenessProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * UserAccountRepository
@@ -38,5 +43,38 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, Long>
      * @since 1.0
      */
     Optional<UserAccount> findByUserName(UserName username);
-}
 
+    /**
+     * Checks in a single query whether a username, an email address and a phone number are already in use.
+     *
+     * @param username the username to check
+     * @param email the email address to check
+     * @param phone the phone number to check, may be {@code null}
+     * @return an {@link AccountUniquenessProjection} flagging every value that is already taken
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.persistence.jpa.projections.AccountUniquenessProjection(
+        CASE WHEN EXISTS (SELECT 1 FROM UserAccount u WHERE u.userName.username = :username) THEN true ELSE false END,
+        CASE WHEN EXISTS (SELECT 1 FROM Person p WHERE p.email.address = :email) THEN true ELSE false END,
+        CASE WHEN EXISTS (SELECT 1 FROM Person p WHERE p.phone.value = :phone) THEN true ELSE false END
+    )
+""")
+    AccountUniquenessProjection findAccountUniqueness(@Param("username") String username,
+                                                      @Param("email") String email,
+                                                      @Param("phone") String phone);
+
+    /**
+     * Returns which of the given usernames are already in use, in a single query.
+     *
+     * @param usernames the usernames to check
+     * @return the subset of {@code usernames} that belong to an existing account
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT u.userName.username FROM UserAccount u WHERE u.userName.username IN :usernames
+""")
+    Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+}
@@ -0,0 +1,97 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.ratelimiting;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * StripedTokenBucket
+ *
+ * @summary
+ * Lock-free token-bucket limiter over a fixed number of stripes.
+ * Each key is hashed to a stripe whose state (last refill time and remaining tokens) is packed
+ * into a single {@code long} and updated with compare-and-set, so the limiter never takes a lock
+ * and its memory does not grow with the number of distinct keys. Keys that share a stripe share
+ * its budget; the stripe count keeps such collisions rare.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+class StripedTokenBucket {
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000L;
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final long capacityMilliTokens;
+    private final long refillMilliTokens;
+    private final long refillPeriodMillis;
+    private final LongSupplier clockMillis;
+    private final long originMillis;
+
+    /**
+     * Constructs a bucket set where every stripe starts full.
+     *
+     * @param stripeCount the number of stripes, rounded up to a power of two
+     * @param capacity the maximum number of tokens per stripe
+     * @param refillTokens the number of tokens restored per refill period
+     * @param refillPeriodMillis the refill period, in milliseconds
+     */
+    StripedTokenBucket(int stripeCount, int capacity, int refillTokens, long refillPeriodMillis) {
+        this(stripeCount, capacity, refillTokens, refillPeriodMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructs a bucket set where every stripe starts full, reading the time from the given clock.
+     *
+     * @param stripeCount the number of stripes, rounded up to a power of two
+     * @param capacity the maximum number of tokens per stripe
+     * @param refillTokens the number of tokens restored per refill period
+     * @param refillPeriodMillis the refill period, in milliseconds
+     * @param clockMillis the source of the current time, in milliseconds
+     */
+    StripedTokenBucket(int stripeCount, int capacity, int refillTokens, long refillPeriodMillis, LongSupplier clockMillis) {
+        if (capacity <= 0 || capacity * MILLI_TOKENS_PER_TOKEN > TOKEN_MASK)
+            throw new IllegalArgumentException("Capacity must be between 1 and " + TOKEN_MASK / MILLI_TOKENS_PER_TOKEN);
+        if (refillTokens <= 0 || refillPeriodMillis <= 0)
+            throw new IllegalArgumentException("Refill tokens and period must be positive");
+        var size = stripeCount <= 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+        this.stripes = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.capacityMilliTokens = capacity * MILLI_TOKENS_PER_TOKEN;
+        this.refillMilliTokens = refillTokens * MILLI_TOKENS_PER_TOKEN;
+        this.refillPeriodMillis = refillPeriodMillis;
+        this.clockMillis = clockMillis;
+        this.originMillis = clockMillis.getAsLong() - refillPeriodMillis * capacity;
+    }
+
+    /**
+     * Attempts to take one token from the stripe of the given key.
+     *
+     * @param key the key to rate limit
+     * @return {@code true} if a token was available; {@code false} if the key is over its rate
+     */
+    boolean tryAcquire(String key) {
+        var index = spread(key.hashCode()) & mask;
+        var now = clockMillis.getAsLong() - originMillis;
+        while (true) {
+            var current = stripes.get(index);
+            var lastRefill = current >>> TOKEN_BITS;
+            var tokens = current & TOKEN_MASK;
+            var elapsed = Math.max(0L, now - lastRefill);
+            var refilled = elapsed * refillMilliTokens / refillPeriodMillis;
+            if (refilled > 0) {
+                tokens = Math.min(capacityMilliTokens, tokens + refilled);
+                lastRefill = now;
+            }
+            if (tokens < MILLI_TOKENS_PER_TOKEN) return false;
+            var next = (lastRefill << TOKEN_BITS) | (tokens - MILLI_TOKENS_PER_TOKEN);
+            if (stripes.compareAndSet(index, current, next)) return true;
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,9 +1,14 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt;
 
 import com.galaxiawonder.propgms.propgmsplatform.iam.application.internal.outboundservices.tokens.TokenService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.TokenVerification;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.security.core.Authentication;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * BearerTokenService
  * <p>
@@ -30,9 +35,46 @@ public interface BearerTokenService {
 
     String generateToken(String username, String personId);
 
+    /**
+     * Method to generate a Bearer Token that embeds the authorities granted to the user,
+     * so the request pipeline can build the principal without loading the account.
+     * @param username The username used as token subject.
+     * @param personId The person identifier associated to the account.
+     * @param authorities The authorities granted to the user.
+     * @return String containing the Bearer Token.
+     */
+    String generateToken(String username, String personId, Collection<String> authorities);
+
     String getUsernameFromToken(String token);
 
     String getPersonIdFromToken(String token);
 
     boolean validateToken(String token);
+
+    /**
+     * Method to validate a Bearer Token and extract its claims with a single parse.
+     * @param token The Bearer Token to verify.
+     * @return {@link Optional} containing the {@link VerifiedTokenClaims} if the token is valid, empty otherwise.
+     */
+    Optional<VerifiedTokenClaims> getVerifiedClaimsFromToken(String token);
+
+    /**
+     * Method to validate a Bearer Token with a single parse, reporting why it was rejected.
+     * @param token The Bearer Token to verify.
+     * @return {@link TokenVerification} holding the {@link VerifiedTokenClaims} if the token is valid, the rejection reason otherwise.
+     */
+    TokenVerification verifyToken(String token);
+
+    /**
+     * Method to revoke a single Bearer Token before its expiration.
+     * @param token The Bearer Token to revoke.
+     * @return {@code true} if the token was valid and has been revoked, {@code false} otherwise.
+     */
+    boolean revokeToken(String token);
+
+    /**
+     * Method to revoke every Bearer Token issued to a user up to now.
+     * @param username The subject whose tokens will be revoked.
+     */
+    void revokeTokensIssuedTo(String username);
 }
@@ -0,0 +1,38 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model;
+
+/**
+ * TokenRejection
+ *
+ * @summary
+ * Reason why a Bearer Token was not accepted, reported to the authentication audit trail.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public enum TokenRejection {
+    /**
+     * The token is past its {@code exp} claim.
+     */
+    EXPIRED,
+
+    /**
+     * The token is empty, cannot be parsed or lacks its subject or expiration.
+     */
+    MALFORMED,
+
+    /**
+     * The token signature does not match its content.
+     */
+    BAD_SIGNATURE,
+
+    /**
+     * The token is not a signed JWT.
+     */
+    UNSUPPORTED,
+
+    /**
+     * The token, or every token of its subject, has been revoked.
+     */
+    REVOKED
+}
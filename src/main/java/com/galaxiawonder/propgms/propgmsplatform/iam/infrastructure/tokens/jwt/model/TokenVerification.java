@@ -0,0 +1,61 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model;
+
+import java.util.Optional;
+
+/**
+ * TokenVerification
+ *
+ * @summary
+ * Result of verifying a Bearer Token: either its verified claims or the reason it was rejected.
+ *
+ * @param claims the verified claims, {@code null} when the token was rejected
+ * @param rejection the reason the token was rejected, {@code null} when it was verified
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record TokenVerification(VerifiedTokenClaims claims, TokenRejection rejection) {
+    public TokenVerification {
+        if ((claims == null) == (rejection == null))
+            throw new IllegalArgumentException("Exactly one of claims and rejection must be set");
+    }
+
+    /**
+     * Creates the result of a verified token.
+     *
+     * @param claims the verified claims
+     * @return the verification
+     */
+    public static TokenVerification verified(VerifiedTokenClaims claims) {
+        return new TokenVerification(claims, null);
+    }
+
+    /**
+     * Creates the result of a rejected token.
+     *
+     * @param rejection the reason the token was rejected
+     * @return the verification
+     */
+    public static TokenVerification rejected(TokenRejection rejection) {
+        return new TokenVerification(null, rejection);
+    }
+
+    /**
+     * Checks whether the token was verified.
+     *
+     * @return {@code true} if the claims are available
+     */
+    public boolean isVerified() {
+        return claims != null;
+    }
+
+    /**
+     * Returns the verified claims, if any.
+     *
+     * @return {@link Optional} containing the claims if the token was verified, empty otherwise
+     */
+    public Optional<VerifiedTokenClaims> toOptional() {
+        return Optional.ofNullable(claims);
+    }
+}
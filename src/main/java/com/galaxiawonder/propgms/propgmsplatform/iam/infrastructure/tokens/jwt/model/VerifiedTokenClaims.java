@@ -0,0 +1,51 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * VerifiedTokenClaims
+ *
+ * @summary
+ * Immutable view of the claims carried by a Bearer Token whose signature and expiration
+ * have already been verified. It holds only the values the request pipeline needs, so it
+ * can be cached and shared across threads without keeping the raw token around.
+ *
+ * @param username the token subject
+ * @param personId the {@code personId} claim, or {@code null} when the token does not carry it
+ * @param authorities the authorities granted at sign-in, empty for tokens issued without them
+ * @param issuedAt the instant at which the token was issued, to the millisecond, or {@code null} when not declared
+ * @param expiresAt the instant at which the token expires
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record VerifiedTokenClaims(String username, String personId, List<String> authorities, Instant issuedAt, Instant expiresAt) {
+    public VerifiedTokenClaims {
+        if (username == null || username.isBlank())
+            throw new IllegalArgumentException("Token subject cannot be null or blank");
+        if (expiresAt == null)
+            throw new IllegalArgumentException("Token expiration cannot be null");
+        authorities = authorities == null ? List.of() : List.copyOf(authorities);
+    }
+
+    /**
+     * Checks whether the token is already expired at the given instant.
+     *
+     * @param instant the instant to compare against
+     * @return {@code true} if the token is no longer valid at {@code instant}
+     */
+    public boolean isExpiredAt(Instant instant) {
+        return !expiresAt.isAfter(instant);
+    }
+
+    /**
+     * Checks whether the token carries the authorities needed to build a principal without a database lookup.
+     *
+     * @return {@code true} if at least one authority was embedded at sign-in
+     */
+    public boolean hasAuthorities() {
+        return !authorities.isEmpty();
+    }
+}
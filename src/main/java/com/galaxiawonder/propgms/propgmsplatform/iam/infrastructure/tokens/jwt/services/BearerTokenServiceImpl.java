@@ -1,8 +1,11 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services;
 
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.events.UserAccountCredentialsChangedEvent;
 import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.TokenRejection;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.TokenVerification;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.apache.commons.lang3.time.DateUtils;
@@ -11,10 +14,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Service
@@ -24,21 +29,21 @@ public class BearerTokenServiceImpl implements BearerTokenService {
     private static final String BEARER_TOKEN_PREFIX = "Bearer ";
     private static final int TOKEN_START_INDEX = 7;
 
-    @Value("${authorization.jwt.secret}")
-    private String secret;
-
     @Value("${authorization.jwt.expiration.days}")
     private int expirationDays;
 
-    // Private methods
+    private final TokenCrypto tokenCrypto;
+    private final TokenRevocationList revocationList;
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public BearerTokenServiceImpl(TokenCrypto tokenCrypto, TokenRevocationList revocationList) {
+        this.tokenCrypto = tokenCrypto;
+        this.revocationList = revocationList;
     }
 
+    // Private methods
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token).getPayload();
+        return tokenCrypto.parseClaims(token);
     }
 
     private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
@@ -47,7 +52,7 @@ public class BearerTokenServiceImpl implements BearerTokenService {
     }
 
     private boolean isTokenPresentIn(String authorizationParameter) {
-        return authorizationParameter.startsWith(BEARER_TOKEN_PREFIX);
+        return authorizationParameter != null && authorizationParameter.length() > TOKEN_START_INDEX;
     }
 
     private String extractTokenFrom(String authorizationParameter) {
@@ -61,12 +66,11 @@ public class BearerTokenServiceImpl implements BearerTokenService {
     private String buildTokenWithDefaultParameters(String username) {
         var issuedAt = new Date();
         var expiration = DateUtils.addDays(issuedAt, expirationDays);
-        var key = getSigningKey();
-        return Jwts.builder()
+        return tokenCrypto.builder()
                 .subject(username)
                 .issuedAt(issuedAt)
+                .claim(TokenCrypto.ISSUED_AT_MILLIS_CLAIM, issuedAt.getTime())
                 .expiration(expiration)
-                .signWith(key)
                 .compact();
     }
 
@@ -104,7 +108,16 @@ public class BearerTokenServiceImpl implements BearerTokenService {
     }
 
     public String generateToken(String username, String personId) {
-        return buildTokenCustomParameters(username, personId);
+        return buildTokenCustomParameters(username, personId, List.of());
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public String generateToken(String username, String personId, Collection<String> authorities) {
+        return buildTokenCustomParameters(username, personId, authorities);
     }
 
     /**
@@ -122,7 +135,7 @@ public class BearerTokenServiceImpl implements BearerTokenService {
      */
     @Override
     public String getPersonIdFromToken(String token) {
-        return extractAllClaims(token).get("personId", String.class);
+        return extractAllClaims(token).get(TokenCrypto.PERSON_ID_CLAIM, String.class);
     }
 
     /**
@@ -131,35 +144,85 @@ public class BearerTokenServiceImpl implements BearerTokenService {
      */
     @Override
     public boolean validateToken(String token) {
+        return getVerifiedClaimsFromToken(token).isPresent();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<VerifiedTokenClaims> getVerifiedClaimsFromToken(String token) {
+        return verifyToken(token).toOptional();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public TokenVerification verifyToken(String token) {
         try {
-            Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-            LOGGER.info("Token is valid");
-            return true;
+            return TokenVerification.verified(tokenCrypto.parseAndValidate(token));
         } catch (SignatureException e) {
-            LOGGER.error("Invalid token signature: {}", e.getMessage());
+            LOGGER.debug("Invalid token signature: {}", e.getMessage());
+            return TokenVerification.rejected(TokenRejection.BAD_SIGNATURE);
         } catch (MalformedJwtException e) {
-            LOGGER.error("Invalid token format: {}", e.getMessage());
+            LOGGER.debug("Invalid token format: {}", e.getMessage());
+            return TokenVerification.rejected(TokenRejection.MALFORMED);
         } catch (ExpiredJwtException e) {
-            LOGGER.error("Token has expired: {}", e.getMessage());
+            LOGGER.debug("Token has expired: {}", e.getMessage());
+            return TokenVerification.rejected(TokenRejection.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            LOGGER.error("Unsupported token: {}", e.getMessage());
+            LOGGER.debug("Unsupported token: {}", e.getMessage());
+            return TokenVerification.rejected(TokenRejection.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            LOGGER.error("Token is empty: {}", e.getMessage());
+            LOGGER.debug("Token is empty: {}", e.getMessage());
+            return TokenVerification.rejected(TokenRejection.MALFORMED);
         }
-        return false;
     }
 
-    private String buildTokenCustomParameters(String username, String personId) {
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean revokeToken(String token) {
+        var claims = getVerifiedClaimsFromToken(token);
+        claims.ifPresent(verified -> revocationList.revoke(token, verified));
+        return claims.isPresent();
+    }
+
+    /**
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void revokeTokensIssuedTo(String username) {
+        revocationList.revokeAllIssuedTo(username);
+    }
+
+    /**
+     * Revokes every token issued to a user once a change of its password has been committed.
+     * A new hash of the same password leaves the tokens valid.
+     * @param event The credentials changed event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(UserAccountCredentialsChangedEvent event) {
+        if (event.isPasswordChanged()) revokeTokensIssuedTo(event.getUsername());
+    }
+
+    private String buildTokenCustomParameters(String username, String personId, Collection<String> authorities) {
         var issuedAt = new Date();
         var expiration = DateUtils.addDays(issuedAt, expirationDays);
-        var key = getSigningKey();
 
-        return Jwts.builder()
+        var builder = tokenCrypto.builder()
                 .subject(username)
                 .issuedAt(issuedAt)
+                .claim(TokenCrypto.ISSUED_AT_MILLIS_CLAIM, issuedAt.getTime())
                 .expiration(expiration)
-                .claim("personId", personId)
-                .signWith(key)
-                .compact();
+                .claim(TokenCrypto.PERSON_ID_CLAIM, personId);
+        if (!authorities.isEmpty()) builder.claim(TokenCrypto.AUTHORITIES_CLAIM, List.copyOf(authorities));
+        return builder.compact();
     }
 }
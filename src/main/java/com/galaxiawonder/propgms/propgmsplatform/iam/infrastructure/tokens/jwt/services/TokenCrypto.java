@@ -0,0 +1,111 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * TokenCrypto
+ *
+ * @summary
+ * Holds the cryptographic material used to sign and verify Bearer Tokens.
+ * The HMAC signing key and the {@link JwtParser} are derived once at startup; both are
+ * immutable and thread-safe, so they are shared by every request instead of being rebuilt per call.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class TokenCrypto {
+    /** Name of the custom claim that carries the person identifier. */
+    public static final String PERSON_ID_CLAIM = "personId";
+
+    /** Name of the custom claim that carries the authorities granted at sign-in. */
+    public static final String AUTHORITIES_CLAIM = "authorities";
+
+    /**
+     * Name of the custom claim that carries the issue time in milliseconds.
+     * The registered {@code iat} claim only has a precision of seconds.
+     */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "issuedAtMillis";
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    /**
+     * Derives the signing key and the parser from the configured secret.
+     *
+     * @param secret the shared secret used for HMAC signing
+     */
+    public TokenCrypto(@Value("${authorization.jwt.secret}") String secret) {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
+    /**
+     * Returns a token builder already bound to the signing key.
+     *
+     * @return a new {@link JwtBuilder} that signs with the precomputed key
+     */
+    public JwtBuilder builder() {
+        return Jwts.builder().signWith(signingKey);
+    }
+
+    /**
+     * Verifies the signature and expiration of a token and returns its full claim set.
+     *
+     * @param token the compact signed token
+     * @return the verified {@link Claims}
+     * @throws JwtException if the token is malformed, unsigned, tampered with or expired
+     * @throws IllegalArgumentException if the token is null or empty
+     */
+    public Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verifies a token and extracts the subject, person identifier, authorities and validity window in a single parse.
+     * The issue time is read from {@link #ISSUED_AT_MILLIS_CLAIM}, or from {@code iat} for tokens issued without it.
+     *
+     * @param token the compact signed token
+     * @return the {@link VerifiedTokenClaims} of the token
+     * @throws JwtException if the token is malformed, unsigned, tampered with or expired
+     * @throws IllegalArgumentException if the token is null or empty, or lacks a subject or expiration
+     */
+    public VerifiedTokenClaims parseAndValidate(String token) {
+        var claims = parseClaims(token);
+        var expiration = claims.getExpiration();
+        if (expiration == null) throw new IllegalArgumentException("Token does not declare an expiration");
+        return new VerifiedTokenClaims(
+                claims.getSubject(),
+                claims.get(PERSON_ID_CLAIM, String.class),
+                getAuthorities(claims),
+                getIssuedAt(claims),
+                expiration.toInstant());
+    }
+
+    private Instant getIssuedAt(Claims claims) {
+        var issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) return Instant.ofEpochMilli(issuedAtMillis);
+        var issuedAt = claims.getIssuedAt();
+        return issuedAt != null ? issuedAt.toInstant() : null;
+    }
+
+    private List<String> getAuthorities(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (authorities == null) return List.of();
+        return authorities.stream().map(Object::toString).toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * TokenDigest
+ *
+ * @summary
+ * Computes the SHA-256 digest used to key in-memory token structures,
+ * so raw Bearer Tokens are never kept as map keys.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+final class TokenDigest {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Computes the hexadecimal SHA-256 digest of a token.
+     *
+     * @param token the Bearer Token
+     * @return the digest as a lowercase hexadecimal string
+     */
+    static String of(String token) {
+        try {
+            var digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+}
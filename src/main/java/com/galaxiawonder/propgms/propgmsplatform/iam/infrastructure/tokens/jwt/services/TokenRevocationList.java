@@ -0,0 +1,103 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * TokenRevocationList
+ *
+ * @summary
+ * Compact in-memory denylist consulted on every authenticated request.
+ * It supports revoking a single token, keyed by its SHA-256 digest and kept only until the
+ * token would have expired anyway, and revoking every token issued to a subject up to a
+ * given instant, kept for the maximum token lifetime. Entries are never evicted for size,
+ * since an evicted entry would silently make its token valid again.
+ *
+ * <p>The denylist is local to the running instance; it is meant for short-lived revocations
+ * such as sign-out and credential changes, not as a durable audit record.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class TokenRevocationList {
+    private final Cache<String, Instant> revokedTokens;
+    private final Cache<String, Instant> revokedSubjects;
+
+    /**
+     * Constructs the denylist for the configured token lifetime.
+     *
+     * @param expirationDays the lifetime of issued tokens, in days
+     */
+    public TokenRevocationList(@Value("${authorization.jwt.expiration.days}") int expirationDays) {
+        this.revokedTokens = Caffeine.newBuilder()
+                .expireAfter(new UntilInstant())
+                .build();
+        this.revokedSubjects = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofDays(expirationDays))
+                .build();
+    }
+
+    /**
+     * Revokes a single verified token until its expiration.
+     *
+     * @param token the Bearer Token
+     * @param claims the verified claims of the token
+     */
+    public void revoke(String token, VerifiedTokenClaims claims) {
+        revokedTokens.put(TokenDigest.of(token), claims.expiresAt());
+    }
+
+    /**
+     * Revokes every token issued to the given subject up to now.
+     * Tokens carry their issue time in milliseconds, so a token issued in the following millisecond,
+     * such as one obtained by signing in again right after a password change, stays valid.
+     *
+     * @param username the token subject
+     */
+    public void revokeAllIssuedTo(String username) {
+        revokedSubjects.put(username, Instant.now().truncatedTo(ChronoUnit.MILLIS));
+    }
+
+    /**
+     * Checks whether a verified token has been revoked.
+     *
+     * @param digest the SHA-256 digest of the token
+     * @param claims the verified claims of the token
+     * @return {@code true} if the token or every token of its subject issued up to it was revoked
+     */
+    boolean isRevoked(String digest, VerifiedTokenClaims claims) {
+        if (revokedTokens.getIfPresent(digest) != null) return true;
+        var cutoff = revokedSubjects.getIfPresent(claims.username());
+        return cutoff != null && (claims.issuedAt() == null || !claims.issuedAt().isAfter(cutoff));
+    }
+
+    /**
+     * Expires each revoked token at the instant it would have expired on its own.
+     */
+    private static final class UntilInstant implements Expiry<String, Instant> {
+        @Override
+        public long expireAfterCreate(String key, Instant expiresAt, long currentTime) {
+            return Math.max(0L, Duration.between(Instant.now(), expiresAt).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Instant expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Instant expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
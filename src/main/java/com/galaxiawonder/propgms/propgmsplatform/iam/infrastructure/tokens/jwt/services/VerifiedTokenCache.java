@@ -0,0 +1,120 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.BearerTokenService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.TokenRejection;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.TokenVerification;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.model.VerifiedTokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * VerifiedTokenCache
+ *
+ * @summary
+ * Bounded cache of {@link VerifiedTokenClaims} keyed by the SHA-256 digest of the Bearer Token.
+ * A token is parsed and verified once per TTL window; subsequent requests carrying the same
+ * token are served from memory. Entries never outlive the token {@code exp} claim, and only
+ * successfully verified tokens are cached. Every lookup, cached or not, is checked against the
+ * {@link TokenRevocationList} so that revoked tokens stop authenticating immediately.
+ *
+ * <p>Hit and miss counters are published through Micrometer under the {@code iam.verified-tokens} cache name.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class VerifiedTokenCache {
+    private static final String CACHE_NAME = "iam.verified-tokens";
+
+    private final BearerTokenService tokenService;
+    private final TokenRevocationList revocationList;
+    private final Cache<String, VerifiedTokenClaims> cache;
+
+    /**
+     * Constructs the cache with its configured bounds and registers its metrics.
+     *
+     * @param tokenService the service used to verify tokens on a cache miss
+     * @param revocationList the denylist of revoked tokens and subjects
+     * @param meterRegistry the registry where hit and miss counters are published
+     * @param maximumSize the maximum number of verified tokens kept in memory
+     * @param ttlSeconds the maximum time a verified token is trusted before being parsed again
+     */
+    public VerifiedTokenCache(BearerTokenService tokenService,
+                              TokenRevocationList revocationList,
+                              MeterRegistry meterRegistry,
+                              @Value("${authorization.jwt.cache.max-size:10000}") long maximumSize,
+                              @Value("${authorization.jwt.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.tokenService = tokenService;
+        this.revocationList = revocationList;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(Duration.ofSeconds(ttlSeconds)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Verifies the given token, parsing it only when it is not cached, and reports why it was rejected.
+     *
+     * @param token the Bearer Token
+     * @return the verified claims if the token is valid and not revoked, the rejection reason otherwise
+     */
+    public TokenVerification verify(String token) {
+        if (token == null || token.isBlank()) return TokenVerification.rejected(TokenRejection.MALFORMED);
+        var key = TokenDigest.of(token);
+        var cached = cache.getIfPresent(key);
+        if (cached != null && cached.isExpiredAt(Instant.now())) {
+            cache.invalidate(key);
+            return TokenVerification.rejected(TokenRejection.EXPIRED);
+        }
+        var verification = cached != null ? TokenVerification.verified(cached) : tokenService.verifyToken(token);
+        if (!verification.isVerified()) return verification;
+        if (revocationList.isRevoked(key, verification.claims())) {
+            cache.invalidate(key);
+            return TokenVerification.rejected(TokenRejection.REVOKED);
+        }
+        if (cached == null) cache.put(key, verification.claims());
+        return verification;
+    }
+
+    /**
+     * Removes a token from the cache so that its next use is verified again.
+     *
+     * @param token the Bearer Token
+     */
+    public void evict(String token) {
+        if (token != null) cache.invalidate(TokenDigest.of(token));
+    }
+
+    /**
+     * Expires each entry at the earlier of the token {@code exp} claim and the configured TTL.
+     */
+    private record TokenExpiry(Duration ttl) implements Expiry<String, VerifiedTokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedTokenClaims claims, long currentTime) {
+            var untilExpiration = Duration.between(Instant.now(), claims.expiresAt());
+            if (untilExpiration.isNegative()) return 0L;
+            return Math.min(untilExpiration.toNanos(), ttl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedTokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedTokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.acl;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
 
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * IAMContextFacade
  *
@@ -55,6 +58,19 @@ public interface IAMContextFacade {
      */
     ProfileDetails getProfileDetailsById(Long id);
 
+    /**
+     * Retrieves the profile information of several persons at once.
+     *
+     * <p>Intended for listings and for callers that can prefetch every person they are about to
+     * display, so that the identifiers missing from the cache are resolved in a single round trip.</p>
+     *
+     * @param ids the internal IDs of the persons
+     * @return the profile details of every existing person, keyed by ID; unknown IDs are omitted
+     *
+     * @since 1.0
+     */
+    Map<Long, ProfileDetails> getProfileDetailsByIds(Collection<Long> ids);
+
     /**
      * Retrieves the unique identifier of a person based on their email address.
      *
@@ -0,0 +1,34 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignUpBatchCommand;
+import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.SignUpResource;
+
+import java.util.List;
+
+/**
+ * SignUpBatchCommandFromResourceAssembler
+ *
+ * @summary
+ * Utility class responsible for converting a list of {@link SignUpResource} objects into a {@link SignUpBatchCommand}.
+ * Each resource is mapped with {@link SignUpCommandFromResourceAssembler}, preserving its position in the batch.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public class SignUpBatchCommandFromResourceAssembler {
+
+    /**
+     * Converts a list of {@link SignUpResource} into a {@link SignUpBatchCommand}.
+     *
+     * @param resources the incoming API resources, one per account to create
+     * @return a domain command representing the batch sign-up request
+     *
+     * @since 1.0
+     */
+    public static SignUpBatchCommand toCommandFromResources(List<SignUpResource> resources) {
+        return new SignUpBatchCommand(resources.stream()
+                .map(SignUpCommandFromResourceAssembler::toCommandFromResource)
+                .toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers;
+
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.valueobjects.SignUpOutcome;
+import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.SignUpOutcomeResource;
+
+/**
+ * SignUpOutcomeResourceFromOutcomeAssembler
+ *
+ * @summary
+ * Utility class responsible for converting a {@link SignUpOutcome} into a {@link SignUpOutcomeResource}.
+ * Created accounts are exposed through {@link UserAccountResourceFromEntityAssembler}.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public class SignUpOutcomeResourceFromOutcomeAssembler {
+
+    /**
+     * Converts a {@link SignUpOutcome} into a {@link SignUpOutcomeResource}.
+     *
+     * @param outcome the result of a single entry of a sign-up batch
+     * @return a {@link SignUpOutcomeResource} with either the created account or the rejection reason
+     *
+     * @since 1.0
+     */
+    public static SignUpOutcomeResource toResourceFromOutcome(SignUpOutcome outcome) {
+        return new SignUpOutcomeResource(
+                outcome.index(),
+                outcome.username(),
+                outcome.isCreated(),
+                outcome.isCreated()
+                        ? UserAccountResourceFromEntityAssembler.toResourceFromEntity(outcome.userAccount())
+                        : null,
+                outcome.error()
+        );
+    }
+}
@@ -1,20 +1,30 @@
 package com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.controllers;
 
+import com.galaxiawonder.propgms.propgmsplatform.iam.domain.model.commands.SignOutCommand;
 import com.galaxiawonder.propgms.propgmsplatform.iam.domain.services.UserAccountCommandService;
+import com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.ratelimiting.SignInRateLimiter;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers.SignInCommandFromResourceAssembler;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers.SignInResponseResourceFromEntityAssembler;
+import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers.SignUpBatchCommandFromResourceAssembler;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers.SignUpCommandFromResourceAssembler;
+import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers.SignUpOutcomeResourceFromOutcomeAssembler;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.assemblers.UserAccountResourceFromEntityAssembler;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.SignInResource;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.SignInResponseResource;
+import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.SignUpOutcomeResource;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.SignUpResource;
 import com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources.UserAccountResource;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * AuthenticationController
  *
@@ -31,15 +41,27 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "Authentication", description = "User Sign-Up and Authentication Endpoints")
 public class AuthenticationController {
 
+    private static final String BEARER_TOKEN_PREFIX = "Bearer ";
+
     private final UserAccountCommandService userAccountCommandService;
 
+    private final SignInRateLimiter signInRateLimiter;
+
+    private final int signUpBatchMaxSize;
+
     /**
      * Constructs the {@code AuthenticationController} with required dependencies.
      *
      * @param userAccountCommandService service responsible for handling user account creation
+     * @param signInRateLimiter limiter applied to sign-in attempts per client address and username
+     * @param signUpBatchMaxSize maximum number of accounts accepted by a single batch sign-up
      */
-    AuthenticationController(UserAccountCommandService userAccountCommandService) {
+    AuthenticationController(UserAccountCommandService userAccountCommandService,
+                             SignInRateLimiter signInRateLimiter,
+                             @Value("${authorization.signup.batch.max-size:100}") int signUpBatchMaxSize) {
         this.userAccountCommandService = userAccountCommandService;
+        this.signInRateLimiter = signInRateLimiter;
+        this.signUpBatchMaxSize = signUpBatchMaxSize;
     }
 
     /**
@@ -62,6 +84,33 @@ public class AuthenticationController {
         return new ResponseEntity<>(resource, HttpStatus.CREATED);
     }
 
+    /**
+     * Handles the sign-up of several users at once, such as when a whole firm is onboarded.
+     * Only operators may call it, since every entry costs a password hash.
+     * <p>
+     *     Every entry is validated and created independently; the response reports, in request order,
+     *     the created account or the rejection reason of each entry.
+     * </p>
+     *
+     * @param signUpResources the accounts to create
+     * @return {@code 200 OK} with one {@link SignUpOutcomeResource} per entry,
+     *         {@code 400 Bad Request} if the batch is empty or larger than the configured maximum,
+     *         {@code 403 Forbidden} if the caller is not an operator
+     */
+    @PostMapping("/signup/batch")
+    public ResponseEntity<List<SignUpOutcomeResource>> signUpBatch(@RequestBody List<SignUpResource> signUpResources) {
+        if (signUpResources == null || signUpResources.isEmpty() || signUpResources.size() > signUpBatchMaxSize
+                || signUpResources.contains(null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        var signUpBatchCommand = SignUpBatchCommandFromResourceAssembler.toCommandFromResources(signUpResources);
+        var outcomes = userAccountCommandService.handle(signUpBatchCommand);
+        var resources = outcomes.stream()
+                .map(SignUpOutcomeResourceFromOutcomeAssembler::toResourceFromOutcome)
+                .toList();
+        return ResponseEntity.ok(resources);
+    }
+
     /**
      * Handles the sign-in request for an existing user account.
      * <p>
@@ -70,11 +119,16 @@ public class AuthenticationController {
      * </p>
      *
      * @param signInResource the sign-in data containing username and password
+     * @param request the HTTP request, used to identify the client address as resolved from a trusted proxy
      * @return {@code 200 OK} with the token and user info if successful,
-     *         {@code 401 Unauthorized} if authentication fails
+     *         {@code 401 Unauthorized} if authentication fails,
+     *         {@code 429 Too Many Requests} if the client address or username exceeded its attempt rate
      */
     @PostMapping("/signin")
-    public ResponseEntity<SignInResponseResource> signIn(@RequestBody SignInResource signInResource) {
+    public ResponseEntity<SignInResponseResource> signIn(@RequestBody SignInResource signInResource, HttpServletRequest request) {
+        if (!signInRateLimiter.tryAcquire(request.getRemoteAddr(), signInResource.userName())) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
         var signInCommand = SignInCommandFromResourceAssembler.toCommandFromResource(signInResource);
         var result = userAccountCommandService.handle(signInCommand);
 
@@ -87,4 +141,23 @@ public class AuthenticationController {
         return ResponseEntity.ok(responseBody);
     }
 
+    /**
+     * Handles the sign-out request by revoking the Bearer Token presented in the {@code Authorization} header.
+     *
+     * @param authorization the value of the {@code Authorization} header
+     * @return {@code 204 No Content} if the token has been revoked,
+     *         {@code 401 Unauthorized} if no valid Bearer Token was presented
+     */
+    @PostMapping("/signout")
+    public ResponseEntity<Void> signOut(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_TOKEN_PREFIX)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        var token = authorization.substring(BEARER_TOKEN_PREFIX.length());
+        if (token.isBlank() || !userAccountCommandService.handle(new SignOutCommand(token))) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return ResponseEntity.noContent().build();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.interfaces.rest.resources;
+
+import jakarta.annotation.Nullable;
+
+public record SignUpOutcomeResource(
+        int index,
+        String userName,
+        boolean created,
+        @Nullable UserAccountResource user,
+        @Nullable String error
+) {
+}
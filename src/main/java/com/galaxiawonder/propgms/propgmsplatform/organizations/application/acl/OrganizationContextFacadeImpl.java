@@ -1,16 +1,17 @@
 package com.galaxiawonder.propgms.propgmsplatform.organizations.application.acl;
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.aggregates.Organization;
-import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.queries.GetAllOrganizationsQuery;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.queries.GetOrganizationByIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.OrganizationCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.OrganizationQueryService;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.projections.OrganizationMemberPersonProjection;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationMemberRepository;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.interfaces.acl.OrganizationContextFacade;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.entities.AuditableModel;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * OrganizationContextFacadeImpl
@@ -36,16 +37,22 @@ public class OrganizationContextFacadeImpl implements OrganizationContextFacade
     private final OrganizationQueryService organizationQueryService;
     private final OrganizationCommandService organizationCommandService;
 
+    /** Repository used to resolve organization members without loading their organization. */
+    private final OrganizationMemberRepository organizationMemberRepository;
+
     /**
      * Constructs the context facade with its required dependencies.
      *
      * @param organizationQueryService   the service used to retrieve organization aggregates
      * @param organizationCommandService the service used to modify organization aggregates
+     * @param organizationMemberRepository the repository used to resolve organization members
      */
     public OrganizationContextFacadeImpl(OrganizationQueryService organizationQueryService,
-                                         OrganizationCommandService organizationCommandService) {
+                                         OrganizationCommandService organizationCommandService,
+                                         OrganizationMemberRepository organizationMemberRepository) {
         this.organizationQueryService = organizationQueryService;
         this.organizationCommandService = organizationCommandService;
+        this.organizationMemberRepository = organizationMemberRepository;
     }
 
     /**
@@ -73,13 +80,7 @@ public class OrganizationContextFacadeImpl implements OrganizationContextFacade
      */
     @Override
     public Long getOrganizationMemberIdFromPersonAndOrganizationId(Long personId, Long organizationId) {
-        Organization organization = this.organizationQueryService.handle(new GetOrganizationByIdQuery(organizationId))
-                .orElseThrow(() -> new IllegalArgumentException("No organization found for the ID: " + organizationId));
-
-        return organization.getMembers().stream()
-                .filter(member -> member.getPersonId().personId().equals(personId))
-                .findFirst()
-                .map(AuditableModel::getId)
+        return this.organizationMemberRepository.findMemberIdByOrganizationIdAndPersonId(organizationId, personId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No member found with person ID " + personId + " in organization ID " + organizationId
                 ));
@@ -92,21 +93,22 @@ public class OrganizationContextFacadeImpl implements OrganizationContextFacade
      * @return the person ID linked to the organization member
      * @throws IllegalArgumentException if no organization member is found with the given ID
      */
+    @Override
     public Long getPersonIdFromOrganizationMemberId(Long organizationMemberId) {
-        return this.organizationQueryService
-                .handle(new GetAllOrganizationsQuery())
-                .stream()
-                .flatMap(List::stream)
-                .flatMap(org -> org.getMembers().stream())
-                .filter(member -> member.getId().equals(organizationMemberId))
-                .findFirst()
-                .map(member -> member.getPersonId().personId())
+        return this.organizationMemberRepository.findPersonIdByMemberId(organizationMemberId)
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No organization member found for the ID: " + organizationMemberId
                 ));
     }
 
-
-
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, Long> getPersonIdsFromOrganizationMemberIds(Collection<Long> organizationMemberIds) {
+        if (organizationMemberIds == null || organizationMemberIds.isEmpty()) return Map.of();
+        return this.organizationMemberRepository.findPersonIdsByMemberIdIn(organizationMemberIds).stream()
+                .collect(Collectors.toMap(OrganizationMemberPersonProjection::memberId,
+                        OrganizationMemberPersonProjection::personId));
+    }
 }
-
@@ -12,6 +12,7 @@ import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.O
 import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.*;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.apache.commons.lang3.tuple.Triple;
@@ -32,14 +33,8 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
     /** Repository for performing write operations on {@link Organization} entities. */
     private final OrganizationRepository organizationRepository;
 
-    /** Repository for retrieving and persisting {@link OrganizationStatus} values. */
-    private final OrganizationStatusRepository organizationStatusRepository;
-
-    /** Repository for retrieving {@link OrganizationInvitationStatus} values. */
-    private final OrganizationInvitationStatusRepository organizationInvitationStatusRepository;
-
-    /** Repository for retrieving {@link OrganizationMemberType} values. */
-    private final OrganizationMemberTypeRepository organizationMemberTypeRepository;
+    /** Registry for resolving {@link OrganizationStatus}, {@link OrganizationInvitationStatus} and {@link OrganizationMemberType} values. */
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /** Facade to interact with Identity and Access Management context. */
     private final IAMContextFacade iamContextFacade;
@@ -47,29 +42,30 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
     /** Repository for retrieving {@link OrganizationInvitation} entities. */
     OrganizationInvitationRepository organizationInvitationRepository;
 
+    /** Repository for retrieving and persisting {@link OrganizationMember} entities. */
+    private final OrganizationMemberRepository organizationMemberRepository;
+
     /**
      * Constructs a new {@code OrganizationCommandServiceImpl} with required dependencies.
      *
      * @param organizationRepository the repository for saving and updating organizations
-     * @param organizationStatusRepository the repository for fetching organization statuses
-     * @param organizationInvitationStatusRepository the repository for invitation statuses
-     * @param organizationMemberTypeRepository the repository for member type values
+     * @param referenceDataRegistry the registry for organization statuses, invitation statuses and member types
      * @param iamContextFacade the IAM facade for resolving user-related information
+     * @param organizationInvitationRepository the repository for invitations
+     * @param organizationMemberRepository the repository for organization members
      */
     public OrganizationCommandServiceImpl(
             OrganizationRepository organizationRepository,
-            OrganizationStatusRepository organizationStatusRepository,
-            OrganizationInvitationStatusRepository organizationInvitationStatusRepository,
-            OrganizationMemberTypeRepository organizationMemberTypeRepository,
+            ReferenceDataRegistry referenceDataRegistry,
             IAMContextFacade iamContextFacade,
-            OrganizationInvitationRepository organizationInvitationRepository
+            OrganizationInvitationRepository organizationInvitationRepository,
+            OrganizationMemberRepository organizationMemberRepository
     ) {
         this.organizationRepository = organizationRepository;
-        this.organizationStatusRepository = organizationStatusRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.iamContextFacade = iamContextFacade;
-        this.organizationInvitationStatusRepository = organizationInvitationStatusRepository;
-        this.organizationMemberTypeRepository = organizationMemberTypeRepository;
         this.organizationInvitationRepository = organizationInvitationRepository;
+        this.organizationMemberRepository = organizationMemberRepository;
     }
 
     /**
@@ -136,15 +132,15 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
 
         OrganizationInvitationStatus pendingStatus = getOrganizationInvitationStatus(OrganizationInvitationStatuses.PENDING);
 
-        organization.addInvitation(personId, pendingStatus);
+        boolean alreadyMember = organizationMemberRepository
+                .existsByOrganizationIdAndPersonId(organization.getId(), personId.personId());
+        boolean pendingInvitationExists = organizationInvitationRepository
+                .existsByOrganizationIdAndInvitedPersonIdAndStatus(
+                        organization.getId(), personId.personId(), OrganizationInvitationStatuses.PENDING);
 
-        saveOrganization(organization);
+        OrganizationInvitation invitation = organization.addInvitation(personId, pendingStatus, alreadyMember, pendingInvitationExists);
 
-        var persistedInvitation = organizationInvitationRepository
-                .findTopByOrganizationIdAndInvitedPersonIdOrderByIdDesc(
-                        organization.getId(), personId
-                )
-                .orElseThrow(() -> new IllegalStateException("Failed to persist invitation"));
+        var persistedInvitation = organizationInvitationRepository.saveAndFlush(invitation);
 
         return returnInvitationTripleResult(organization, persistedInvitation);
     }
@@ -153,63 +149,73 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public Optional<Triple<Organization, OrganizationInvitation, ProfileDetails>> handle(AcceptInvitationCommand command) {
-        Organization organization = this.organizationRepository.findOrganizationByInvitationId(command.invitationId())
-                .orElseThrow(()-> new EntityNotFoundException("No organization found for the given invitation id: " + command.invitationId()));
+        OrganizationInvitation invitation = getInvitationWithOrganization(command.invitationId());
+        Organization organization = invitation.getOrganization();
 
         OrganizationInvitationStatus acceptedStatus = getOrganizationInvitationStatus(OrganizationInvitationStatuses.ACCEPTED);
         OrganizationMemberType workerType = getOrganizationMemberType(OrganizationMemberTypes.WORKER);
 
-        OrganizationInvitation invitation = organization.selectInvitationFromId(command.invitationId());
+        var invitedPersonId = invitation.getInvitedPersonId().personId();
+
+        var profileDetails = iamContextFacade.getProfileDetailsById(invitedPersonId);
 
-        var profileDetails = iamContextFacade.getProfileDetailsById(invitation.getInvitedPersonId().personId());
+        boolean alreadyMember = organizationMemberRepository.existsByOrganizationIdAndPersonId(organization.getId(), invitedPersonId);
 
-        OrganizationInvitation acceptInvitation = organization.acceptInvitation(command.invitationId(), acceptedStatus, workerType, profileDetails);
+        OrganizationMember member = organization.acceptInvitation(invitation, acceptedStatus, workerType, profileDetails, alreadyMember);
 
-        saveOrganization(organization);
+        organizationMemberRepository.save(member);
+        organizationInvitationRepository.save(invitation);
 
-        return returnInvitationTripleResult(organization, acceptInvitation);
+        return returnInvitationTripleResult(organization, invitation);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @Transactional
     public Optional<Triple<Organization, OrganizationInvitation, ProfileDetails>> handle(RejectInvitationCommand rejectInvitationCommand) {
-        Organization organization = this.organizationRepository.findOrganizationByInvitationId(rejectInvitationCommand.invitationId())
-                .orElseThrow(() -> new EntityNotFoundException("No organization found for the given invitation id: " + rejectInvitationCommand.invitationId()));
+        OrganizationInvitation invitation = getInvitationWithOrganization(rejectInvitationCommand.invitationId());
+        Organization organization = invitation.getOrganization();
 
         OrganizationInvitationStatus rejectedStatus = getOrganizationInvitationStatus(OrganizationInvitationStatuses.REJECTED);
 
-        OrganizationInvitation invitation = organization.rejectInvitation(rejectInvitationCommand.invitationId(), rejectedStatus);
+        organization.rejectInvitation(invitation, rejectedStatus);
 
-        saveOrganization(organization);
+        organizationInvitationRepository.save(invitation);
 
         return returnInvitationTripleResult(organization, invitation);
     }
 
     @Override
+    @Transactional
     public void handle(DeleteOrganizationMemberCommand command) {
-        Organization organization = organizationRepository.findOrganizationByMemberId(command.organizationMemberId())
+        OrganizationMember member = organizationMemberRepository.findWithOrganizationById(command.organizationMemberId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "No organization found for the given organization member ID: " + command.organizationMemberId()));
 
-        // Find the member and get their PersonId
-        PersonId removedPersonId = organization.getMembers().stream()
-                .filter(member -> member.getId().equals(command.organizationMemberId()))
-                .findFirst()
-                .map(OrganizationMember::getPersonId)
-                .orElseThrow(() -> new IllegalStateException("Member not found in the organization"));
+        Organization organization = member.getOrganization();
 
-        organization.removeMemberById(command.organizationMemberId());
+        organization.removeMember(member);
 
-        organization.removeInvitationsByPersonId(removedPersonId);
+        organizationInvitationRepository.deleteAllByOrganizationIdAndInvitedPersonId(
+                organization.getId(), member.getPersonId().personId());
 
-        saveOrganization(organization);
+        organizationMemberRepository.delete(member);
     }
 
-    private void saveOrganization(Organization organization) {
-        organizationRepository.save(organization);
+    /**
+     * Retrieves an invitation together with its organization.
+     *
+     * @param invitationId the ID of the invitation
+     * @return the {@link OrganizationInvitation} with its organization loaded
+     * @throws EntityNotFoundException if the invitation does not exist
+     */
+    private OrganizationInvitation getInvitationWithOrganization(Long invitationId) {
+        return this.organizationInvitationRepository.findWithOrganizationById(invitationId)
+                .orElseThrow(() -> new EntityNotFoundException("No organization found for the given invitation id: " + invitationId));
     }
 
     /**
@@ -217,10 +223,10 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
      *
      * @param status the {@link OrganizationStatuses} enum representing the desired status
      * @return the corresponding {@link OrganizationStatus} entity
-     * @throws IllegalStateException if the status is not found in the repository
+     * @throws IllegalStateException if the status is not found in the registry
      */
     private OrganizationStatus getOrganizationStatus(OrganizationStatuses status) {
-        return organizationStatusRepository.findByName(status)
+        return this.referenceDataRegistry.findByName(OrganizationStatus.class, status)
                 .orElseThrow(() -> new IllegalStateException("Default status 'ACTIVE' not found"));
     }
 
@@ -229,10 +235,10 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
      *
      * @param status the {@link OrganizationInvitationStatuses} enum representing the invitation status
      * @return the corresponding {@link OrganizationInvitationStatus} entity
-     * @throws IllegalStateException if the status is not found in the repository
+     * @throws IllegalStateException if the status is not found in the registry
      */
     private OrganizationInvitationStatus getOrganizationInvitationStatus(OrganizationInvitationStatuses status) {
-        return this.organizationInvitationStatusRepository.findByName(status)
+        return this.referenceDataRegistry.findByName(OrganizationInvitationStatus.class, status)
                 .orElseThrow(() -> new IllegalStateException("Organization invitation status"));
     }
 
@@ -241,10 +247,10 @@ public class OrganizationCommandServiceImpl implements OrganizationCommandServic
      *
      * @param status the {@link OrganizationMemberTypes} enum representing the member type
      * @return the corresponding {@link OrganizationMemberType} entity
-     * @throws IllegalStateException if the type is not found in the repository
+     * @throws IllegalStateException if the type is not found in the registry
      */
     private OrganizationMemberType getOrganizationMemberType(OrganizationMemberTypes status) {
-        return this.organizationMemberTypeRepository.findByName(status)
+        return this.referenceDataRegistry.findByName(OrganizationMemberType.class, status)
                 .orElseThrow(() -> new IllegalStateException("Organization member type not found"));
     }
 
@@ -5,15 +5,23 @@ import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.aggr
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationInvitation;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationMember;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.queries.*;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationInvitationStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.OrganizationQueryService;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationInvitationRepository;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationMemberRepository;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationRepository;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Triple;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,16 +36,30 @@ public class OrganizationQueryServiceImpl implements OrganizationQueryService {
     /** Repository for querying {@link Organization} entities from the data source. */
     private final OrganizationRepository organizationRepository;
 
+    /** Repository for querying {@link OrganizationInvitation} entities from the data source. */
+    private final OrganizationInvitationRepository organizationInvitationRepository;
+
+    /** Repository for querying {@link OrganizationMember} entities from the data source. */
+    private final OrganizationMemberRepository organizationMemberRepository;
+
     /** IAMContext Facade for querying data such as {@link ProfileDetails} */
     private final IAMContextFacade iamContextFacade;
 
     /**
-     * Constructs a new {@code OrganizationQueryServiceImpl} with the given repository.
+     * Constructs a new {@code OrganizationQueryServiceImpl} with the given repositories.
      *
      * @param organizationRepository the repository used to fetch organization data
+     * @param organizationInvitationRepository the repository used to fetch invitations across organizations
+     * @param organizationMemberRepository the repository used to fetch the members of an organization
+     * @param iamContextFacade the IAM facade used to resolve profile details
      */
-    public OrganizationQueryServiceImpl(OrganizationRepository organizationRepository, IAMContextFacade iamContextFacade) {
+    public OrganizationQueryServiceImpl(OrganizationRepository organizationRepository,
+                                        OrganizationInvitationRepository organizationInvitationRepository,
+                                        OrganizationMemberRepository organizationMemberRepository,
+                                        IAMContextFacade iamContextFacade) {
         this.organizationRepository = organizationRepository;
+        this.organizationInvitationRepository = organizationInvitationRepository;
+        this.organizationMemberRepository = organizationMemberRepository;
         this.iamContextFacade = iamContextFacade;
     }
 
@@ -53,50 +75,52 @@ public class OrganizationQueryServiceImpl implements OrganizationQueryService {
      * {@inheritDoc}
      */
     @Override
-    public List<ImmutablePair<OrganizationInvitation, ProfileDetails>> handle(GetAllInvitationsByOrganizationIdQuery query) {
-        Organization organization = organizationRepository.findById(query.organizationId())
-                .orElseThrow(() -> new IllegalArgumentException("No organization found by the given ID: " + query.organizationId()));
-
-        List<OrganizationInvitation> invitations = new ArrayList<>(organization.getInvitations());
+    public Optional<OrganizationSummary> handle(GetOrganizationSummaryByIdQuery query){
+        return organizationRepository.findSummaryById(query.id());
+    }
 
-        // Get set of personIds that are already members
-        Set<PersonId> members = organization.getMembers().stream()
-                .map(OrganizationMember::getPersonId)
-                .collect(Collectors.toSet());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public KeysetPage<ImmutablePair<OrganizationInvitation, ProfileDetails>> handle(GetAllInvitationsByOrganizationIdQuery query) {
+        requireOrganization(query.organizationId());
 
-        Collections.reverse(invitations); // newest to oldest
+        var page = query.page();
+        KeysetPage<OrganizationInvitation> latestInvitations = KeysetPage.of(
+                organizationInvitationRepository.findLatestPageByOrganizationId(query.organizationId(),
+                        page.afterCreatedAt(), page.afterId(), Limit.of(page.fetchSize())),
+                page, OrganizationInvitation::getCreatedAt, OrganizationInvitation::getId);
 
-        Set<PersonId> seen = new HashSet<>();
+        Map<Long, ProfileDetails> profiles = iamContextFacade.getProfileDetailsByIds(latestInvitations.items().stream()
+                .map(inv -> inv.getInvitedPersonId().personId())
+                .collect(Collectors.toSet()));
 
-        return invitations.stream()
-                .filter(inv -> !members.contains(inv.getInvitedPersonId()))
-                .filter(inv -> seen.add(inv.getInvitedPersonId()))
-                .map(inv -> {
-                    ProfileDetails profileDetails = iamContextFacade.getProfileDetailsById(inv.getInvitedPersonId().personId());
-                    return ImmutablePair.of(inv, profileDetails);
-                })
-                .toList();
+        return latestInvitations.map(inv -> ImmutablePair.of(inv, getProfileDetails(profiles, inv.getInvitedPersonId())));
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<OrganizationMember> handle(GetAllMembersByOrganizationIdQuery query) {
-        Organization organization = organizationRepository.findById(query.organizationId())
-                .orElseThrow(() -> new IllegalArgumentException("No organization found by the given ID: " + query.organizationId()));
+    public KeysetPage<OrganizationMember> handle(GetAllMembersByOrganizationIdQuery query) {
+        requireOrganization(query.organizationId());
 
-        return organization.getMembers();
+        var page = query.page();
+        return KeysetPage.of(organizationMemberRepository.findPageByOrganizationId(query.organizationId(),
+                        page.afterCreatedAt(), page.afterId(), Limit.of(page.fetchSize())),
+                page, OrganizationMember::getCreatedAt, OrganizationMember::getId);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public List<Organization> handle(GetAllOrganizationsByMemberPersonIdQuery query) {
-
-        return organizationRepository.findAllOrganizationsByOrganizationMemberPersonId(query.personId())
-                .orElseThrow(()-> new IllegalArgumentException("The person with the ID " + query.personId() + " does not belong to any organization"));
+    public KeysetPage<OrganizationSummary> handle(GetAllOrganizationsByMemberPersonIdQuery query) {
+        var page = query.page();
+        return KeysetPage.of(organizationRepository.findPageByMemberPersonId(query.personId(),
+                        page.afterCreatedAt(), page.afterId(), Limit.of(page.fetchSize())),
+                page, OrganizationSummary::createdAt, OrganizationSummary::id);
     }
 
     /**
@@ -105,22 +129,45 @@ public class OrganizationQueryServiceImpl implements OrganizationQueryService {
      */
     @Override
     public List<Triple<Organization, OrganizationInvitation, ProfileDetails>> handle(GetAllInvitationsByPersonIdQuery query) {
-        Long personId = query.personId();
-
-        List<Organization> organizations = organizationRepository.findAll();
-
-        return organizations.stream()
-                .flatMap(org -> org.getInvitations().stream()
-                        .filter(invitation ->
-                                invitation.getInvitedPersonId().personId().equals(personId)
-                                        && invitation.isPending())
-                        .map(invitation -> {
-                            ProfileDetails profile = iamContextFacade.getProfileDetailsById(org.getCreatedBy().personId());
-                            return Triple.of(org, invitation, profile);
-                        }))
+        List<OrganizationInvitation> pendingInvitations = organizationInvitationRepository
+                .findAllWithOrganizationByInvitedPersonIdAndStatus(query.personId(), OrganizationInvitationStatuses.PENDING);
+
+        Map<Long, ProfileDetails> creators = iamContextFacade.getProfileDetailsByIds(pendingInvitations.stream()
+                .map(invitation -> invitation.getOrganization().getCreatedBy().personId())
+                .collect(Collectors.toSet()));
+
+        return pendingInvitations.stream()
+                .map(invitation -> Triple.of(invitation.getOrganization(), invitation,
+                        getProfileDetails(creators, invitation.getOrganization().getCreatedBy())))
                 .toList();
     }
 
+    /**
+     * Verifies that an organization exists without loading it.
+     *
+     * @param organizationId the organization ID
+     * @throws IllegalArgumentException if the organization does not exist
+     */
+    private void requireOrganization(Long organizationId) {
+        if (!organizationRepository.existsById(organizationId))
+            throw new IllegalArgumentException("No organization found by the given ID: " + organizationId);
+    }
+
+    /**
+     * Picks the profile details of a person from the ones resolved in bulk.
+     *
+     * @param profiles the profile details resolved for the listing, keyed by person ID
+     * @param personId the person whose details are needed
+     * @return the profile details of the person
+     * @throws IllegalArgumentException if the person does not exist
+     */
+    private static ProfileDetails getProfileDetails(Map<Long, ProfileDetails> profiles, PersonId personId) {
+        ProfileDetails profileDetails = profiles.get(personId.personId());
+        if (profileDetails == null)
+            throw new IllegalArgumentException("No person found by the given ID: " + personId.personId());
+        return profileDetails;
+    }
+
     @Override
     public Optional<List<Organization>> handle(GetAllOrganizationsQuery query){
         return Optional.of(organizationRepository.findAll());
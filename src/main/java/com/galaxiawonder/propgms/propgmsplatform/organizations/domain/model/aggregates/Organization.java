@@ -25,9 +25,12 @@ import java.util.List;
  * It is responsible for handling the CreateOrganizationCommand command.
  * */
 @Entity
-@Table(name = "organizations")
+@Table(name = "organizations", indexes = @Index(name = Organization.RUC_INDEX, columnList = "value"))
 @EntityListeners(AuditingEntityListener.class)
 public class Organization extends AuditableAbstractAggregateRoot<Organization> {
+    /** Name of the index used to look up an organization by its RUC */
+    public static final String RUC_INDEX = "idx_organizations_ruc";
+
     @Column(nullable = false)
     @Getter
     @Embedded
@@ -104,22 +107,27 @@ public class Organization extends AuditableAbstractAggregateRoot<Organization> {
      *   <li>The person must not already be a member of the organization.</li>
      *   <li>There must not be an existing pending invitation for the person.</li>
      * </ul>
-     * If both checks pass, a new {@link OrganizationInvitation} is created using
-     * the provided status and added to the organization.
+     * Both facts are answered by the caller with targeted queries. If both checks pass, a new
+     * {@link OrganizationInvitation} is created using the provided status and queued on the lazy
+     * invitation collection without loading it.
      *
      * @param personId the ID of the person to be invited
      * @param status   the status to assign to the new invitation (typically {@code PENDING})
+     * @param alreadyMember whether the person is already a member of this organization
+     * @param pendingInvitationExists whether the person already has a pending invitation to this organization
+     * @return the new invitation
      * @throws IllegalArgumentException if the person is already a member
      *                                  or has a pending invitation
      *
      * @since 1.0
      */
-    public OrganizationInvitation addInvitation(PersonId personId, OrganizationInvitationStatus status) {
-        if (isAlreadyMember(personId)) {
+    public OrganizationInvitation addInvitation(PersonId personId, OrganizationInvitationStatus status,
+                                                boolean alreadyMember, boolean pendingInvitationExists) {
+        if (alreadyMember) {
             throw new IllegalArgumentException("This person is already a member of the organization.");
         }
 
-        if (hasPendingInvitationFor(personId)) {
+        if (pendingInvitationExists) {
             throw new IllegalArgumentException("There is already a pending invitation for this person.");
         }
 
@@ -130,20 +138,27 @@ public class Organization extends AuditableAbstractAggregateRoot<Organization> {
     }
 
     /**
-     * Accepts an invitation by its unique identifier, if it exists and is pending,
-     * and adds the invited person as a new {@link OrganizationMember}.
+     * Accepts a pending invitation of this organization and adds the invited person as a new {@link OrganizationMember}.
+     *
+     * <p>The invitation is loaded on its own and the membership check is answered by the caller with a targeted
+     * query, so accepting an invitation never hydrates the invitation or member collections.</p>
      *
-     * @param invitationId the ID of the invitation to accept
+     * @param invitation the invitation to accept
      * @param acceptedStatus the status to assign
      * @param memberType the role/type to assign to the new member
-     * @throws EntityNotFoundException if the invitation does not exist in this organization
+     * @param profileDetails the profile details of the invited person
+     * @param alreadyMember whether the invited person is already a member of this organization
+     * @return the new {@link OrganizationMember}
+     * @throws EntityNotFoundException if the invitation does not belong to this organization
      * @throws IllegalStateException if the invitation is not in PENDING status
      * @throws IllegalArgumentException if the person is already a member
      *
      * @since 1.0
      */
-    public OrganizationInvitation acceptInvitation(Long invitationId, OrganizationInvitationStatus acceptedStatus, OrganizationMemberType memberType, ProfileDetails profileDetails) {
-        OrganizationInvitation invitation = selectInvitationFromId(invitationId);
+    public OrganizationMember acceptInvitation(OrganizationInvitation invitation, OrganizationInvitationStatus acceptedStatus,
+                                               OrganizationMemberType memberType, ProfileDetails profileDetails,
+                                               boolean alreadyMember) {
+        requireOwnInvitation(invitation);
 
         if (!invitation.isPending()) {
             throw new IllegalStateException("Only pending invitations can be accepted");
@@ -151,13 +166,20 @@ public class Organization extends AuditableAbstractAggregateRoot<Organization> {
 
         invitation.accept(acceptedStatus);
 
-        addMember(invitation, memberType, profileDetails);
-
-        return invitation;
+        return addMember(invitation, memberType, profileDetails, alreadyMember);
     }
 
-    public OrganizationInvitation rejectInvitation(Long invitationId, OrganizationInvitationStatus rejectedStatus) {
-        OrganizationInvitation invitation = selectInvitationFromId(invitationId);
+    /**
+     * Rejects a pending invitation of this organization.
+     *
+     * @param invitation the invitation to reject
+     * @param rejectedStatus the status to assign
+     * @return the rejected invitation
+     * @throws EntityNotFoundException if the invitation does not belong to this organization
+     * @throws IllegalStateException if the invitation is not in PENDING status
+     */
+    public OrganizationInvitation rejectInvitation(OrganizationInvitation invitation, OrganizationInvitationStatus rejectedStatus) {
+        requireOwnInvitation(invitation);
 
         if (!invitation.isPending()) {
             throw new IllegalStateException("Only pending invitations can be accepted");
@@ -182,83 +204,58 @@ public class Organization extends AuditableAbstractAggregateRoot<Organization> {
     /**
      * Adds a new {@link OrganizationMember} to the organization based on an accepted {@link OrganizationInvitation}.
      *
-     * <p>This method assumes that the invitation has already been validated and is in {@code ACCEPTED} state.</p>
+     * <p>This method assumes that the invitation has already been validated and is in {@code ACCEPTED} state.
+     * The member is queued on the lazy member collection without loading it.</p>
      *
      * @param invitation the accepted invitation from which to create the new member
+     * @param alreadyMember whether the invited person is already a member of this organization
+     * @return the new member
      * @throws IllegalArgumentException if the person is already a member of the organization
      * @since 1.0
      */
-    private void addMember(OrganizationInvitation invitation, OrganizationMemberType workerType, ProfileDetails profileDetails) {
-        PersonId personId = invitation.getInvitedPersonId();
-
-        if (isAlreadyMember(personId)) {
+    private OrganizationMember addMember(OrganizationInvitation invitation, OrganizationMemberType workerType,
+                                         ProfileDetails profileDetails, boolean alreadyMember) {
+        if (alreadyMember) {
             throw new IllegalArgumentException("This person is already a member of the organization.");
         }
 
-        OrganizationMember member = new OrganizationMember(this, personId, workerType, profileDetails);
+        OrganizationMember member = new OrganizationMember(this, invitation.getInvitedPersonId(), workerType, profileDetails);
         members.add(member);
+        return member;
     }
 
     /**
-     * Removes a member from the organization using their unique member ID.
+     * Validates that a member can be removed from the organization.
      *
      * <p>
-     * This operation ensures the member exists and is not of type {@code CONTRACTOR}
-     * before attempting to remove them from the organization.
+     * This operation ensures the member belongs to this organization and is not of type {@code CONTRACTOR}.
+     * The member is loaded on its own and removed by its repository, so the member collection is never hydrated.
      * </p>
      *
-     * @param memberId the unique ID of the {@link OrganizationMember} to remove
+     * @param member the {@link OrganizationMember} to remove
      * @throws IllegalArgumentException if the member is not part of the organization
      *                                   or if the member's type is {@code CONTRACTOR}
      */
-    public void removeMemberById(Long memberId) {
-        OrganizationMember member = members.stream()
-                .filter(m -> m.getId().equals(memberId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("No member found with ID: " + memberId));
+    public void removeMember(OrganizationMember member) {
+        if (!member.getOrganization().getId().equals(this.getId())) {
+            throw new IllegalArgumentException("No member found with ID: " + member.getId());
+        }
 
         if (member.getMemberType().getName() == OrganizationMemberTypes.CONTRACTOR) {
             throw new IllegalArgumentException("Cannot remove member with role CONTRACTOR");
         }
-
-        members.remove(member);
     }
 
 
     /**
-     * Checks whether a person is already a member of this organization.
-     *
-     * @param personId the ID of the person to verify
-     * @return true if the person is already a member, false otherwise
-     * @since 1.0
-     */
-    private boolean isAlreadyMember(PersonId personId) {
-        return members.stream()
-                .anyMatch(member -> member.getPersonId().equals(personId));
-    }
-
-    /**
-     * Checks if there is already a pending invitation for the given person.
-     *
-     * This prevents sending duplicate invitations to the same person.
+     * Ensures that an invitation loaded on its own belongs to this organization.
      *
-     * @param personId the ID of the person to check
-     * @return true if a pending invitation exists for that person, false otherwise
-     * @since 1.0
+     * @param invitation the invitation to check
+     * @throws EntityNotFoundException if the invitation belongs to another organization
      */
-    private boolean hasPendingInvitationFor(PersonId personId) {
-        return invitations.stream()
-                .anyMatch(inv -> inv.isPending() && personId.equals(inv.getInvitedPersonId()));
-    }
-
-    public OrganizationInvitation selectInvitationFromId(Long invitationId) {
-        return this.invitations.stream()
-                .filter(i -> i.getId().equals(invitationId))
-                .findFirst()
-                .orElseThrow(() -> new EntityNotFoundException("Invitation not found in this organization"));
-    }
-
-    public void removeInvitationsByPersonId(PersonId personId) {
-        invitations.removeIf(invitation -> invitation.getInvitedPersonId().equals(personId));
+    private void requireOwnInvitation(OrganizationInvitation invitation) {
+        if (!invitation.getOrganization().getId().equals(this.getId())) {
+            throw new EntityNotFoundException("Invitation not found in this organization");
+        }
     }
 }
@@ -10,9 +10,22 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Table(indexes = {
+        @Index(name = OrganizationInvitation.PERSON_STATUS_INDEX, columnList = "person_id, status_id"),
+        @Index(name = OrganizationInvitation.ORGANIZATION_KEYSET_INDEX, columnList = "organization_id, created_at, id"),
+        @Index(name = OrganizationInvitation.ORGANIZATION_PERSON_INDEX, columnList = "organization_id, person_id")
+})
 @Getter
 @NoArgsConstructor
 public class OrganizationInvitation extends AuditableModel {
+    /** Name of the index used to look up the invitations of a person by status */
+    public static final String PERSON_STATUS_INDEX = "idx_organization_invitations_person_status";
+
+    /** Name of the index used to page through the invitations of an organization */
+    public static final String ORGANIZATION_KEYSET_INDEX = "idx_organization_invitations_organization_keyset";
+
+    /** Name of the index used to look up the invitations of a person to an organization */
+    public static final String ORGANIZATION_PERSON_INDEX = "idx_organization_invitations_organization_person";
 
     /**
      * Unique identifier of the organization this invitation belongs to.
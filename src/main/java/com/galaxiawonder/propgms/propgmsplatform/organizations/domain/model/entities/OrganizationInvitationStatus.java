@@ -39,7 +39,7 @@ public class OrganizationInvitationStatus {
      * Enum description representing the classification of the invitation status.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 20)
+    @Column(length = 20, unique = true)
     private OrganizationInvitationStatuses name;
 
     /**
@@ -27,9 +27,21 @@ import lombok.Getter;
  * @since 1.0
  */
 @Getter
-@Table(name = "organization_members")
+@Table(name = "organization_members", indexes = {
+        @Index(name = OrganizationMember.ORGANIZATION_PERSON_INDEX, columnList = "organization_id, person_id"),
+        @Index(name = OrganizationMember.ORGANIZATION_KEYSET_INDEX, columnList = "organization_id, created_at, id"),
+        @Index(name = OrganizationMember.PERSON_ORGANIZATION_INDEX, columnList = "person_id, organization_id")
+})
 @Entity
 public class OrganizationMember extends AuditableModel {
+    /** Name of the index used to look up the member of a person within an organization */
+    public static final String ORGANIZATION_PERSON_INDEX = "idx_organization_members_organization_person";
+
+    /** Name of the index used to page through the members of an organization */
+    public static final String ORGANIZATION_KEYSET_INDEX = "idx_organization_members_organization_keyset";
+
+    /** Name of the index used to find the organizations a person is a member of */
+    public static final String PERSON_ORGANIZATION_INDEX = "idx_organization_members_person_organization";
 
     /** Unique identifier of the person associated with this membership. */
     @Column(nullable = false, updatable = false)
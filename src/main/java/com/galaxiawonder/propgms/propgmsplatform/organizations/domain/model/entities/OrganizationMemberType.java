@@ -39,7 +39,7 @@ public class OrganizationMemberType {
      * Enum description representing the classification of the organization member type.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 20)
+    @Column(length = 20, unique = true)
     private OrganizationMemberTypes name;
 
     /**
@@ -39,7 +39,7 @@ public class OrganizationStatus {
      * Enum description representing the classification of the organization's status.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 20)
+    @Column(length = 20, unique = true)
     private OrganizationStatuses name;
 
     /**
@@ -2,6 +2,7 @@ package com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.que
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.aggregates.Organization;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationInvitation;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPageRequest;
 
 /**
  * Query object used to retrieve all {@link OrganizationInvitation} entities
@@ -13,10 +14,12 @@ import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.enti
  * </p>
  *
  * @param organizationId the unique identifier of the organization whose invitations are being requested
+ * @param page the page of invitations to retrieve, newest first
  *
  * @since 1.0
  */
 public record GetAllInvitationsByOrganizationIdQuery(
-        Long organizationId
+        Long organizationId,
+        KeysetPageRequest page
 ) {
 }
@@ -2,6 +2,7 @@ package com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.que
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.aggregates.Organization;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationMember;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPageRequest;
 
 /**
  * Query object used to retrieve all {@link Organization} entities
@@ -14,10 +15,12 @@ import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.enti
  * </p>
  *
  * @param personId the unique identifier of the person whose associated organizations are being requested
+ * @param page the page of organizations to retrieve
  *
  * @since 1.0
  */
 public record GetAllOrganizationsByMemberPersonIdQuery(
-        Long personId
+        Long personId,
+        KeysetPageRequest page
 ) {
 }
@@ -0,0 +1,15 @@
+package com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.queries;
+
+/**
+ * @summary
+ * This class represents the query to get the summary of an organization source by its id,
+ * without loading the organization aggregate.
+ * @param id - the id of the organization source.
+ */
+public record GetOrganizationSummaryByIdQuery(Long id) {
+    public GetOrganizationSummaryByIdQuery {
+        if (id == null) {
+            throw new IllegalArgumentException("Id cannot be null");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * OrganizationSummary
+ *
+ * @summary
+ * Read-only view of an organization with the columns exposed by the API and the name of its status,
+ * selected directly by the repository so that reads do not load the {@code Organization} aggregate.
+ *
+ * @param id the identifier of the organization
+ * @param legalName the legal name of the organization
+ * @param commercialName the commercial name of the organization, may be {@code null}
+ * @param ruc the RUC of the organization
+ * @param createdBy the person ID of the creator of the organization
+ * @param status the name of the organization status
+ * @param createdAt the creation date of the organization
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record OrganizationSummary(Long id, String legalName, String commercialName, String ruc,
+                                  Long createdBy, OrganizationStatuses status, Date createdAt) {
+}
@@ -6,6 +6,8 @@ import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.enti
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationMember;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.queries.*;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationInvitationStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Triple;
@@ -29,41 +31,50 @@ public interface OrganizationQueryService {
      */
     Optional<Organization> handle(GetOrganizationByIdQuery query);
 
+    /**
+     * Handles the get organization summary by id query
+     * @param query the get organization summary by id query
+     * @return the summary of the organization source if exists
+     * @see GetOrganizationSummaryByIdQuery
+     */
+    Optional<OrganizationSummary> handle(GetOrganizationSummaryByIdQuery query);
+
     /**
      * Handles the query to retrieve all organization invitations associated with a given organization ID.
      *
      * <p>This method performs the following actions:</p>
      * <ul>
-     *   <li>Fetches all {@link OrganizationInvitation} entities linked to the specified organization.</li>
+     *   <li>Fetches one page of the latest {@link OrganizationInvitation} per invited person who is not yet a member,
+     *   newest first.</li>
      *   <li>For each invitation, resolves and includes the {@link ProfileDetails} of the invited person.</li>
-     *   <li>Returns the result as a list of {@link ImmutablePair} entries, where the left element is the invitation
+     *   <li>Returns the result as a page of {@link ImmutablePair} entries, where the left element is the invitation
      *   and the right element is the corresponding profile details.</li>
      * </ul>
      *
-     * @param query the {@link GetAllInvitationsByOrganizationIdQuery} containing the target organization ID
-     * @return a {@link List} of {@link ImmutablePair} each containing an {@link OrganizationInvitation} and its associated {@link ProfileDetails}
+     * @param query the {@link GetAllInvitationsByOrganizationIdQuery} containing the target organization ID and page
+     * @return a {@link KeysetPage} of {@link ImmutablePair} each containing an {@link OrganizationInvitation} and its associated {@link ProfileDetails}
+     * @throws IllegalArgumentException if the organization does not exist
      *
      * @since 1.0
      */
-    List<ImmutablePair<OrganizationInvitation, ProfileDetails>> handle(GetAllInvitationsByOrganizationIdQuery query);
+    KeysetPage<ImmutablePair<OrganizationInvitation, ProfileDetails>> handle(GetAllInvitationsByOrganizationIdQuery query);
 
     /**
      * Handles the query to retrieve all organization members associated with a given organization ID.
      *
      * <p>This method performs the following actions:</p>
      * <ul>
-     *   <li>Fetches all {@link OrganizationMember} entities linked to the specified organization.</li>
-     *   <li>For each member, resolves and includes the {@link ProfileDetails} of the associated person.</li>
-     *   <li>Returns the result as a list of {@link ImmutablePair} entries, where the left element is the member
-     *   and the right element is the corresponding profile details.</li>
+     *   <li>Fetches one page of the {@link OrganizationMember} entities linked to the specified organization,
+     *   in the order they joined.</li>
      * </ul>
      *
-     * @param query the {@link GetAllMembersByOrganizationIdQuery} containing the target organization ID
-     * @return a {@link List} of {@link ImmutablePair} each containing an {@link OrganizationMember} and its associated {@link ProfileDetails}
+     * @param query the {@link GetAllMembersByOrganizationIdQuery} containing the target organization ID and page
+     * @return a {@link KeysetPage} of {@link OrganizationMember} entities
+     * @throws IllegalArgumentException if the organization does not exist
      *
      * @since 1.0
      */
-    List<OrganizationMember> handle(GetAllMembersByOrganizationIdQuery query);
+    KeysetPage<OrganizationMember> handle(GetAllMembersByOrganizationIdQuery query);
 
     /**
      * Handles the query to retrieve all {@link Organization} entities in which
@@ -73,17 +84,17 @@ public interface OrganizationQueryService {
      * This method performs the following actions:
      * <ul>
      *   <li>Searches for all {@link OrganizationMember} records linked to the given {@code personId}.</li>
-     *   <li>Retrieves the corresponding {@link Organization} instances for those memberships.</li>
-     *   <li>Returns the complete list of organizations associated with the person.</li>
+     *   <li>Retrieves the {@link OrganizationSummary} of the corresponding organizations.</li>
+     *   <li>Returns one page of the organizations associated with the person, in creation order.</li>
      * </ul>
      * </p>
      *
-     * @param query the {@link GetAllOrganizationsByMemberPersonIdQuery} containing the target person's ID
-     * @return a {@link List} of {@link Organization} entities where the person is a member
+     * @param query the {@link GetAllOrganizationsByMemberPersonIdQuery} containing the target person's ID and page
+     * @return a {@link KeysetPage} of {@link OrganizationSummary} entries for the organizations where the person is a member
      *
      * @since 1.0
      */
-    List<Organization> handle(GetAllOrganizationsByMemberPersonIdQuery query);
+    KeysetPage<OrganizationSummary> handle(GetAllOrganizationsByMemberPersonIdQuery query);
 
     /**
      * Handles the query to retrieve the {@link Organization} invitation sent to the specified person,
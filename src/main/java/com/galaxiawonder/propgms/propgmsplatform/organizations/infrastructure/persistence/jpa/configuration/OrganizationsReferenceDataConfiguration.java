@@ -0,0 +1,43 @@
+package com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.configuration;
+
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationInvitationStatus;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationMemberType;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationStatus;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationInvitationStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationMemberTypes;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationInvitationStatusRepository;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationMemberTypeRepository;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories.OrganizationStatusRepository;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * OrganizationsReferenceDataConfiguration
+ *
+ * @summary
+ * Declares the enum-backed lookup tables of the organizations context, so that they are
+ * resolved through the shared reference data registry.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Configuration
+public class OrganizationsReferenceDataConfiguration {
+    @Bean
+    ReferenceDataTable<OrganizationStatuses, OrganizationStatus> organizationStatusReferenceData(OrganizationStatusRepository repository) {
+        return new ReferenceDataTable<>(OrganizationStatuses.class, OrganizationStatus.class, repository, OrganizationStatus::getName, OrganizationStatus::new);
+    }
+
+    @Bean
+    ReferenceDataTable<OrganizationInvitationStatuses, OrganizationInvitationStatus> organizationInvitationStatusReferenceData(OrganizationInvitationStatusRepository repository) {
+        return new ReferenceDataTable<>(OrganizationInvitationStatuses.class, OrganizationInvitationStatus.class, repository, OrganizationInvitationStatus::getName, OrganizationInvitationStatus::new);
+    }
+
+    @Bean
+    ReferenceDataTable<OrganizationMemberTypes, OrganizationMemberType> organizationMemberTypeReferenceData(OrganizationMemberTypeRepository repository) {
+        return new ReferenceDataTable<>(OrganizationMemberTypes.class, OrganizationMemberType.class, repository, OrganizationMemberType::getName, OrganizationMemberType::new);
+    }
+}
@@ -0,0 +1,18 @@
+package com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.projections;
+
+/**
+ * OrganizationMemberPersonProjection
+ *
+ * @summary
+ * Read-only projection linking an organization member to the person it represents,
+ * so that members can be resolved without loading their organization.
+ *
+ * @param memberId the identifier of the organization member
+ * @param personId the identifier of the person
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record OrganizationMemberPersonProjection(Long memberId, Long personId) {
+}
@@ -1,10 +1,15 @@
 package com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories;
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationInvitation;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationInvitationStatuses;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,17 +30,124 @@ public interface OrganizationInvitationRepository extends JpaRepository<Organiza
     List<OrganizationInvitation> findAllByInvitedPersonId(Long id);
 
     /**
-     * Retrieves the most recent {@link OrganizationInvitation} for a given organization and invited person.
+     * Retrieves the invitations sent to a person with the given status, together with their status,
+     * organization and organization status, in a single statement.
      *
-     * <p>This method uses the organization ID and the {@link PersonId} of the invited person
-     * to find the latest invitation entry (based on descending ID order).</p>
+     * <p>The filter is served by the {@code (person_id, status_id)} index of the invitations table,
+     * so the cost depends on the invitations of the person rather than on the number of organizations.</p>
      *
-     * @param organization_id the ID of the organization to search within
-     * @param invitedPersonId the {@link PersonId} of the person who was invited
-     * @return an {@link Optional} containing the latest {@link OrganizationInvitation} if found, or empty if none exist
+     * @param personId the unique identifier of the invited person
+     * @param status the status of the invitations to retrieve
+     * @return a {@link List} of matching {@link OrganizationInvitation} entities with their organization loaded
      *
      * @since 1.0
      */
-    Optional<OrganizationInvitation> findTopByOrganizationIdAndInvitedPersonIdOrderByIdDesc(
-            Long organization_id, PersonId invitedPersonId);
+    @Query("""
+    SELECT i
+    FROM OrganizationInvitation i
+    JOIN FETCH i.status s
+    JOIN FETCH i.organization o
+    JOIN FETCH o.status
+    WHERE i.invitedPersonId.personId = :personId
+    AND s.name = :status
+""")
+    List<OrganizationInvitation> findAllWithOrganizationByInvitedPersonIdAndStatus(
+            @Param("personId") Long personId, @Param("status") OrganizationInvitationStatuses status);
+
+    /**
+     * Checks whether an organization has an invitation with the given status for a person.
+     *
+     * <p>The filter is served by the {@code (person_id, status_id)} index of the invitations table,
+     * so the check does not depend on the number of invitations of the organization.</p>
+     *
+     * @param organizationId the ID of the organization
+     * @param personId the unique identifier of the invited person
+     * @param status the status of the invitation
+     * @return true if such an invitation exists; false otherwise
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT COUNT(i) > 0
+    FROM OrganizationInvitation i
+    WHERE i.organization.id = :organizationId
+    AND i.invitedPersonId.personId = :personId
+    AND i.status.name = :status
+""")
+    boolean existsByOrganizationIdAndInvitedPersonIdAndStatus(@Param("organizationId") Long organizationId,
+                                                             @Param("personId") Long personId,
+                                                             @Param("status") OrganizationInvitationStatuses status);
+
+    /**
+     * Retrieves a single invitation together with its organization, without loading the
+     * invitation or member collections of the organization.
+     *
+     * @param invitationId the unique identifier of the invitation
+     * @return an {@link Optional} containing the {@link OrganizationInvitation}, or empty if it does not exist
+     *
+     * @since 1.0
+     */
+    @Query("""
+    SELECT i
+    FROM OrganizationInvitation i
+    JOIN FETCH i.organization
+    WHERE i.id = :invitationId
+""")
+    Optional<OrganizationInvitation> findWithOrganizationById(@Param("invitationId") Long invitationId);
+
+    /**
+     * Deletes, in a single statement, every invitation an organization sent to a person.
+     *
+     * @param organizationId the ID of the organization
+     * @param personId the unique identifier of the invited person
+     * @return the number of deleted invitations
+     *
+     * @since 1.0
+     */
+    @Modifying
+    @Query("""
+    DELETE FROM OrganizationInvitation i
+    WHERE i.organization.id = :organizationId
+    AND i.invitedPersonId.personId = :personId
+""")
+    int deleteAllByOrganizationIdAndInvitedPersonId(@Param("organizationId") Long organizationId,
+                                                    @Param("personId") Long personId);
+
+    /**
+     * Retrieves a page of the latest invitation sent to each person by an organization, newest first.
+     * Invitations of persons who are already members of the organization are left out.
+     *
+     * @param organizationId the ID of the organization
+     * @param afterCreatedAt the creation date of the last invitation of the previous page, or {@code null} for the first page
+     * @param afterId the ID of the last invitation of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of invitations to retrieve
+     * @return the invitations of the page
+     */
+    @Query("""
+    SELECT i
+    FROM OrganizationInvitation i
+    JOIN FETCH i.status
+    JOIN FETCH i.organization o
+    JOIN FETCH o.status
+    WHERE o.id = :organizationId
+    AND NOT EXISTS (
+        SELECT m.id
+        FROM OrganizationMember m
+        WHERE m.organization = o
+        AND m.personId.personId = i.invitedPersonId.personId)
+    AND NOT EXISTS (
+        SELECT later.id
+        FROM OrganizationInvitation later
+        WHERE later.organization = o
+        AND later.invitedPersonId.personId = i.invitedPersonId.personId
+        AND later.id > i.id)
+    AND (:afterCreatedAt IS NULL
+        OR i.createdAt < :afterCreatedAt
+        OR (i.createdAt = :afterCreatedAt AND i.id < :afterId))
+    ORDER BY i.createdAt DESC, i.id DESC
+""")
+    List<OrganizationInvitation> findLatestPageByOrganizationId(@Param("organizationId") Long organizationId,
+                                                                @Param("afterCreatedAt") Date afterCreatedAt,
+                                                                @Param("afterId") Long afterId,
+                                                                Limit limit);
 }
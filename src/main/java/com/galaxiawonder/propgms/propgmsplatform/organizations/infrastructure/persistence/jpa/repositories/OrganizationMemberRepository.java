@@ -0,0 +1,129 @@
+package com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories;
+
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationMember;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.projections.OrganizationMemberPersonProjection;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OrganizationMemberRepository
+ *
+ * @summary
+ * JPA repository for {@link OrganizationMember} entities.
+ * Provides targeted lookups that resolve members by primary key or by person,
+ * without loading the owning organization or its member collection.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Repository
+public interface OrganizationMemberRepository extends JpaRepository<OrganizationMember, Long> {
+
+    /**
+     * Retrieves the ID of the person represented by an organization member.
+     *
+     * @param memberId the ID of the organization member
+     * @return an {@link Optional} containing the person ID, or empty if the member does not exist
+     */
+    @Query("""
+    SELECT m.personId.personId
+    FROM OrganizationMember m
+    WHERE m.id = :memberId
+""")
+    Optional<Long> findPersonIdByMemberId(@Param("memberId") Long memberId);
+
+    /**
+     * Retrieves, in a single query, the person represented by each of the given organization members.
+     *
+     * @param memberIds the IDs of the organization members
+     * @return one {@link OrganizationMemberPersonProjection} per existing member; unknown IDs are omitted
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.projections.OrganizationMemberPersonProjection(
+        m.id, m.personId.personId
+    )
+    FROM OrganizationMember m
+    WHERE m.id IN :memberIds
+""")
+    List<OrganizationMemberPersonProjection> findPersonIdsByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    /**
+     * Retrieves the ID of the member that represents a person within an organization.
+     *
+     * @param organizationId the ID of the organization
+     * @param personId the ID of the person
+     * @return an {@link Optional} containing the member ID, or empty if the person is not a member
+     */
+    @Query("""
+    SELECT m.id
+    FROM OrganizationMember m
+    WHERE m.organization.id = :organizationId
+    AND m.personId.personId = :personId
+""")
+    Optional<Long> findMemberIdByOrganizationIdAndPersonId(@Param("organizationId") Long organizationId,
+                                                           @Param("personId") Long personId);
+
+    /**
+     * Retrieves a single member together with its organization, without loading the
+     * member collection of the organization.
+     *
+     * @param memberId the ID of the organization member
+     * @return an {@link Optional} containing the {@link OrganizationMember}, or empty if it does not exist
+     */
+    @Query("""
+    SELECT m
+    FROM OrganizationMember m
+    JOIN FETCH m.organization
+    WHERE m.id = :memberId
+""")
+    Optional<OrganizationMember> findWithOrganizationById(@Param("memberId") Long memberId);
+
+    /**
+     * Checks whether a person is already a member of an organization.
+     *
+     * @param organizationId the ID of the organization
+     * @param personId the ID of the person
+     * @return true if the person is a member of the organization; false otherwise
+     */
+    @Query("""
+    SELECT COUNT(m) > 0
+    FROM OrganizationMember m
+    WHERE m.organization.id = :organizationId
+    AND m.personId.personId = :personId
+""")
+    boolean existsByOrganizationIdAndPersonId(@Param("organizationId") Long organizationId,
+                                              @Param("personId") Long personId);
+
+    /**
+     * Retrieves a page of the members of an organization, ordered by creation date and ID.
+     *
+     * @param organizationId the ID of the organization
+     * @param afterCreatedAt the creation date of the last member of the previous page, or {@code null} for the first page
+     * @param afterId the ID of the last member of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of members to retrieve
+     * @return the members of the page
+     */
+    @Query("""
+    SELECT m
+    FROM OrganizationMember m
+    JOIN FETCH m.memberType
+    WHERE m.organization.id = :organizationId
+    AND (:afterCreatedAt IS NULL
+        OR m.createdAt > :afterCreatedAt
+        OR (m.createdAt = :afterCreatedAt AND m.id > :afterId))
+    ORDER BY m.createdAt, m.id
+""")
+    List<OrganizationMember> findPageByOrganizationId(@Param("organizationId") Long organizationId,
+                                                      @Param("afterCreatedAt") Date afterCreatedAt,
+                                                      @Param("afterId") Long afterId,
+                                                      Limit limit);
+}
@@ -1,12 +1,15 @@
 package com.galaxiawonder.propgms.propgmsplatform.organizations.infrastructure.persistence.jpa.repositories;
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.aggregates.Organization;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.Ruc;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,6 +34,22 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
      */
     Optional<Organization> findById(Long id);
 
+    /**
+     * Find the summary of an organization by its ID without loading the {@link Organization} aggregate
+     * @param id organization's ID
+     * @return the {@link OrganizationSummary} of the organization, if it exists
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary(
+        o.id, o.legalName.legalName, o.commercialName.commercialName, o.ruc.value,
+        o.createdBy.personId, s.name, o.createdAt
+    )
+    FROM Organization o
+    JOIN o.status s
+    WHERE o.id = :id
+""")
+    Optional<OrganizationSummary> findSummaryById(@Param("id") Long id);
+
     /**
      * Find an organization by using an invitation's ID
      * @param invitationId invitation's ID
@@ -57,17 +76,35 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
     Optional<Organization> findOrganizationByMemberId(@Param("memberId") Long memberId);
 
     /**
-     * Retrieves all {@link Organization} entities where the given person is registered as a member.
+     * Retrieves a page of the summaries of the organizations where the given person is registered as a member,
+     * ordered by creation date and ID.
      *
      * @param personId the ID of the person
-     * @return a list of organizations where the person is a member
+     * @param afterCreatedAt the creation date of the last organization of the previous page, or {@code null} for the first page
+     * @param afterId the ID of the last organization of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of organizations to retrieve
+     * @return the {@link OrganizationSummary} of each organization of the page
      */
     @Query("""
-    SELECT o
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary(
+        o.id, o.legalName.legalName, o.commercialName.commercialName, o.ruc.value,
+        o.createdBy.personId, s.name, o.createdAt
+    )
     FROM Organization o
-    JOIN o.members m
-    WHERE m.personId.personId = :personId
+    JOIN o.status s
+    WHERE EXISTS (
+        SELECT m.id
+        FROM OrganizationMember m
+        WHERE m.organization = o
+        AND m.personId.personId = :personId)
+    AND (:afterCreatedAt IS NULL
+        OR o.createdAt > :afterCreatedAt
+        OR (o.createdAt = :afterCreatedAt AND o.id > :afterId))
+    ORDER BY o.createdAt, o.id
 """)
-    Optional<List<Organization>> findAllOrganizationsByOrganizationMemberPersonId(@Param("personId") Long personId);
+    List<OrganizationSummary> findPageByMemberPersonId(@Param("personId") Long personId,
+                                                       @Param("afterCreatedAt") Date afterCreatedAt,
+                                                       @Param("afterId") Long afterId,
+                                                       Limit limit);
 
 }
@@ -2,6 +2,9 @@ package com.galaxiawonder.propgms.propgmsplatform.organizations.interfaces.acl;
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.OrganizationCommandService;
 
+import java.util.Collection;
+import java.util.Map;
+
 public interface OrganizationContextFacade {
 
     Long getContractorIdFromOrganizationId(Long organizationId);
@@ -9,4 +12,12 @@ public interface OrganizationContextFacade {
     Long getOrganizationMemberIdFromPersonAndOrganizationId(Long personId, Long organizationId);
 
     Long getPersonIdFromOrganizationMemberId(Long organizationMemberId);
+
+    /**
+     * Resolves the person represented by each of the given organization members in a single round trip.
+     *
+     * @param organizationMemberIds the IDs of the organization members
+     * @return the person ID of every existing member, keyed by member ID; unknown IDs are omitted
+     */
+    Map<Long, Long> getPersonIdsFromOrganizationMemberIds(Collection<Long> organizationMemberIds);
 }
@@ -1,6 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.organizations.interfaces.rest.assemblers;
 
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.aggregates.Organization;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.interfaces.rest.resources.OrganizationResource;
 
 /**
@@ -23,4 +24,21 @@ public class OrganizationResourceFromEntityAssembler {
                 entity.getCreatedAt()
         );
     }
+
+    /**
+     * Converts an OrganizationSummary to an OrganizationResource.
+     * @param summary OrganizationSummary to convert
+     * @return OrganizationResource created from the summary
+     */
+    public static OrganizationResource toResourceFromSummary(OrganizationSummary summary) {
+        return new OrganizationResource(
+                summary.id(),
+                summary.legalName(),
+                summary.commercialName(),
+                summary.ruc(),
+                summary.createdBy(),
+                summary.status().name(),
+                summary.createdAt()
+        );
+    }
 }
@@ -5,11 +5,14 @@ import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.comm
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationInvitation;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.entities.OrganizationMember;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.queries.*;
+import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.model.valueobjects.OrganizationSummary;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.OrganizationCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.domain.services.OrganizationQueryService;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.interfaces.rest.assemblers.*;
 import com.galaxiawonder.propgms.propgmsplatform.organizations.interfaces.rest.resources.*;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProfileDetails;
+import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.pagination.KeysetPagination;
 import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.resources.GenericMessageResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -41,18 +44,22 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 public class OrganizationController {
     private final OrganizationCommandService organizationCommandService;
     private final OrganizationQueryService organizationQueryService;
+    private final KeysetPagination keysetPagination;
 
     /**
      * Constructor for OrganizationController.
      * @param organizationCommandService Organization command service
      * @param organizationQueryService Organization query service}
+     * @param keysetPagination Keyset pagination of the listing endpoints
      * @see OrganizationCommandService
      * @see OrganizationQueryService
      */
 
-    public OrganizationController(OrganizationCommandService organizationCommandService, OrganizationQueryService organizationQueryService) {
+    public OrganizationController(OrganizationCommandService organizationCommandService, OrganizationQueryService organizationQueryService,
+                                  KeysetPagination keysetPagination) {
         this.organizationCommandService = organizationCommandService;
         this.organizationQueryService = organizationQueryService;
+        this.keysetPagination = keysetPagination;
     }
 
     /**
@@ -94,10 +101,10 @@ public class OrganizationController {
     @GetMapping("{id}")
     public ResponseEntity<OrganizationResource>
     getOrganizationById(@PathVariable Long id){
-        Optional<Organization> organization =
-                organizationQueryService.handle(new GetOrganizationByIdQuery(id));
+        Optional<OrganizationSummary> organization =
+                organizationQueryService.handle(new GetOrganizationSummaryByIdQuery(id));
         return organization.map( source ->
-                ResponseEntity.ok(OrganizationResourceFromEntityAssembler.toResourceFromEntity(source)))
+                ResponseEntity.ok(OrganizationResourceFromEntityAssembler.toResourceFromSummary(source)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -203,32 +210,40 @@ public class OrganizationController {
     }
 
     /**
-     * Retrieves all invitations associated with a specific organization.
+     * Retrieves one page of the invitations associated with a specific organization, newest first.
      *
      * @param organizationId the ID of the organization
-     * @return a list of {@link OrganizationInvitationResource} objects
+     * @param cursor the cursor of the page, taken from the {@code Link} header of the previous page
+     * @param size the number of invitations per page
+     * @return a list of {@link OrganizationInvitationResource} objects, or bad request if the page is invalid
      */
     @Operation(
             summary = "Get all invitations by organization ID",
-            description = "Retrieves all invitations associated with the given organization ID"
+            description = "Retrieves one page of the invitations associated with the given organization ID. "
+                    + "The next page, if any, is linked in the Link header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Invitations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "404", description = "Organization not found")
     })
     @GetMapping("/{organizationId}/invitations")
     public ResponseEntity<List<OrganizationInvitationResource>> getAllInvitationsByOrganizationId(
             @Parameter(description = "ID of the organization", required = true)
-            @PathVariable Long organizationId) {
+            @PathVariable Long organizationId,
+            @Parameter(description = "Cursor of the page")
+            @RequestParam(name = KeysetPagination.CURSOR_PARAMETER, required = false) String cursor,
+            @Parameter(description = "Number of invitations per page")
+            @RequestParam(name = KeysetPagination.SIZE_PARAMETER, required = false) Integer size) {
 
-        List<ImmutablePair<OrganizationInvitation, ProfileDetails>> organizationInvitations =
-                organizationQueryService.handle(new GetAllInvitationsByOrganizationIdQuery(organizationId));
+        var pageRequest = keysetPagination.toPageRequest(cursor, size);
+        if (pageRequest.isEmpty()) return ResponseEntity.badRequest().build();
 
-        List<OrganizationInvitationResource> resources = organizationInvitations.stream()
-                .map(OrganizationInvitationResourceFromEntityAssembler::toResourceFromPair)
-                .toList();
+        KeysetPage<ImmutablePair<OrganizationInvitation, ProfileDetails>> organizationInvitations =
+                organizationQueryService.handle(new GetAllInvitationsByOrganizationIdQuery(organizationId, pageRequest.get()));
 
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+        return keysetPagination.toResponseEntity(
+                organizationInvitations.map(OrganizationInvitationResourceFromEntityAssembler::toResourceFromPair));
     }
 
     /**
@@ -262,32 +277,40 @@ public class OrganizationController {
     }
 
     /**
-     * Retrieves all members associated with a specific organization.
+     * Retrieves one page of the members associated with a specific organization.
      *
      * @param organizationId the ID of the organization
-     * @return a list of {@link OrganizationMemberResource} objects
+     * @param cursor the cursor of the page, taken from the {@code Link} header of the previous page
+     * @param size the number of members per page
+     * @return a list of {@link OrganizationMemberResource} objects, or bad request if the page is invalid
      */
     @Operation(
             summary = "Get all members by organization ID",
-            description = "Retrieves all active members associated with the given organization ID"
+            description = "Retrieves one page of the active members associated with the given organization ID. "
+                    + "The next page, if any, is linked in the Link header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Members retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "404", description = "Organization not found")
     })
     @GetMapping("/{organizationId}/members")
     public ResponseEntity<List<OrganizationMemberResource>> getAllMembersByOrganizationId(
             @Parameter(description = "ID of the organization", required = true)
-            @PathVariable Long organizationId) {
+            @PathVariable Long organizationId,
+            @Parameter(description = "Cursor of the page")
+            @RequestParam(name = KeysetPagination.CURSOR_PARAMETER, required = false) String cursor,
+            @Parameter(description = "Number of members per page")
+            @RequestParam(name = KeysetPagination.SIZE_PARAMETER, required = false) Integer size) {
 
-        List<OrganizationMember> organizationMembers =
-                organizationQueryService.handle(new GetAllMembersByOrganizationIdQuery(organizationId));
+        var pageRequest = keysetPagination.toPageRequest(cursor, size);
+        if (pageRequest.isEmpty()) return ResponseEntity.badRequest().build();
 
-        List<OrganizationMemberResource> resources = organizationMembers.stream()
-                .map(OrganizationMemberResourceFromEntityAssembler::toResourceFromEntity)
-                .toList();
+        KeysetPage<OrganizationMember> organizationMembers =
+                organizationQueryService.handle(new GetAllMembersByOrganizationIdQuery(organizationId, pageRequest.get()));
 
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+        return keysetPagination.toResponseEntity(
+                organizationMembers.map(OrganizationMemberResourceFromEntityAssembler::toResourceFromEntity));
     }
 
     /**
@@ -316,32 +339,39 @@ public class OrganizationController {
 
 
     /**
-     * Retrieves all organizations where a given person is a member.
+     * Retrieves one page of the organizations where a given person is a member.
      *
      * @param personId the ID of the person
-     * @return a list of {@link OrganizationResource} objects representing the organizations
+     * @param cursor the cursor of the page, taken from the {@code Link} header of the previous page
+     * @param size the number of organizations per page
+     * @return a list of {@link OrganizationResource} objects representing the organizations, or bad request if the page is invalid
      */
     @Operation(
             summary = "Get organizations by person ID",
-            description = "Retrieves all organizations where the given person is a registered member"
+            description = "Retrieves one page of the organizations where the given person is a registered member. "
+                    + "The next page, if any, is linked in the Link header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Organizations retrieved successfully"),
-            @ApiResponse(responseCode = "404", description = "Person not found or has no memberships")
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @GetMapping("/by-person-id/{id}")
     public ResponseEntity<List<OrganizationResource>> getOrganizationsByPersonId(
             @Parameter(description = "ID of the person", required = true)
-            @PathVariable("id") Long personId
+            @PathVariable("id") Long personId,
+            @Parameter(description = "Cursor of the page")
+            @RequestParam(name = KeysetPagination.CURSOR_PARAMETER, required = false) String cursor,
+            @Parameter(description = "Number of organizations per page")
+            @RequestParam(name = KeysetPagination.SIZE_PARAMETER, required = false) Integer size
     ) {
-        List<Organization> organizations = organizationQueryService.handle(
-                new GetAllOrganizationsByMemberPersonIdQuery(personId)
-        );
+        var pageRequest = keysetPagination.toPageRequest(cursor, size);
+        if (pageRequest.isEmpty()) return ResponseEntity.badRequest().build();
 
-        List<OrganizationResource> resources = organizations.stream()
-                .map(OrganizationResourceFromEntityAssembler::toResourceFromEntity)
-                .toList();
+        KeysetPage<OrganizationSummary> organizations = organizationQueryService.handle(
+                new GetAllOrganizationsByMemberPersonIdQuery(personId, pageRequest.get())
+        );
 
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+        return keysetPagination.toResponseEntity(
+                organizations.map(OrganizationResourceFromEntityAssembler::toResourceFromSummary));
     }
 }
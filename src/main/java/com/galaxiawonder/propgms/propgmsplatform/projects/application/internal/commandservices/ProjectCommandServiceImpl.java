@@ -10,8 +10,8 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobje
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.ProjectCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.ProjectTeamMemberCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectRepository;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectStatusRepository;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.*;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataRegistry;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
@@ -32,8 +32,8 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
     /** Facade for accessing IAM-related information such as user profiles and identities. */
     private final IAMContextFacade iamContextFacade;
 
-    /** Repository interface for managing and retrieving {@link ProjectStatus} entities. */
-    private final ProjectStatusRepository projectStatusRepository;
+    /** Registry for resolving {@link ProjectStatus} reference data. */
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /** Publisher used to dispatch domain events such as {@link ProjectCreatedEvent}. */
     private final ProjectTeamMemberCommandService projectTeamMemberCommandService;
@@ -46,17 +46,17 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
      *
      * @param projectRepository repository for persisting and retrieving projects
      * @param iamContextFacade facade for accessing identity and profile data
-     * @param projectStatusRepository repository for accessing project status definitions
+     * @param referenceDataRegistry registry for accessing project status definitions
      * @param projectTeamMemberCommandService publisher for propagating domain events to the application context
      */
     public ProjectCommandServiceImpl(ProjectRepository projectRepository,
                                      IAMContextFacade iamContextFacade,
-                                     ProjectStatusRepository projectStatusRepository,
+                                     ReferenceDataRegistry referenceDataRegistry,
                                      ProjectTeamMemberCommandService projectTeamMemberCommandService,
                                      OrganizationContextFacade organizationContextFacade) {
         this.projectRepository = projectRepository;
         this.iamContextFacade = iamContextFacade;
-        this.projectStatusRepository = projectStatusRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.projectTeamMemberCommandService = projectTeamMemberCommandService;
         this.organizationContextFacade = organizationContextFacade;
     }
@@ -108,10 +108,10 @@ public class ProjectCommandServiceImpl implements ProjectCommandService {
      *
      * @param status the {@link ProjectStatuses} enum representing the desired status
      * @return the corresponding {@link ProjectStatus} entity
-     * @throws IllegalStateException if the status is not found in the repository
+     * @throws IllegalStateException if the status is not found in the registry
      */
     private ProjectStatus getProjectStatus(ProjectStatuses status) {
-        return this.projectStatusRepository.findByName(status)
+        return this.referenceDataRegistry.findByName(ProjectStatus.class, status)
                 .orElseThrow(() -> new IllegalStateException("Project status not found"));
     }
 
@@ -12,9 +12,8 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobje
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.Specialties;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.ProjectTeamMemberCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectTeamMemberRepository;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectTeamMemberTypeRepository;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.SpecialtyRepository;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.*;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -38,10 +37,8 @@ public class ProjectTeamMemberCommandServiceImpl implements ProjectTeamMemberCom
     /** Facade to access identity and profile-related data from the IAM context. */
     private final IAMContextFacade iamContextFacade;
 
-    /** Repository interface for retrieving {@link Specialty} domain entities. */
-    private final SpecialtyRepository specialtyRepository;
-
-    private final ProjectTeamMemberTypeRepository projectTeamMemberTypeRepository;
+    /** Registry for resolving {@link Specialty} and {@link ProjectTeamMemberType} reference data. */
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     private final OrganizationContextFacade organizationContextFacade;
 
@@ -50,18 +47,16 @@ public class ProjectTeamMemberCommandServiceImpl implements ProjectTeamMemberCom
      *
      * @param projectTeamMemberRepository repository for persisting project team members
      * @param iamContextFacade IAM context facade for accessing user profile information
-     * @param specialtyRepository repository for looking up specialty definitions
+     * @param referenceDataRegistry registry for looking up specialties and team member types
      */
     public ProjectTeamMemberCommandServiceImpl(ProjectTeamMemberRepository projectTeamMemberRepository,
                                                IAMContextFacade iamContextFacade,
-                                               SpecialtyRepository specialtyRepository,
-                                               ProjectTeamMemberTypeRepository projectTeamMemberTypeRepository,
+                                               ReferenceDataRegistry referenceDataRegistry,
                                                OrganizationContextFacade organizationContextFacade) {
         this.projectTeamMemberRepository = projectTeamMemberRepository;
         this.iamContextFacade = iamContextFacade;
         this.organizationContextFacade = organizationContextFacade;
-        this.specialtyRepository = specialtyRepository;
-        this.projectTeamMemberTypeRepository = projectTeamMemberTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     /**
@@ -82,10 +77,10 @@ public class ProjectTeamMemberCommandServiceImpl implements ProjectTeamMemberCom
         if (personInformation == null) {
             throw new IllegalArgumentException("Person with ID " + personId + " not found");
         }
-        var specialty = specialtyRepository.findByName(Specialties.valueOf(command.specialty()))
+        var specialty = referenceDataRegistry.findByName(Specialty.class, Specialties.valueOf(command.specialty()))
                 .orElseThrow(() -> new IllegalArgumentException("Specialty not found"));
         projectTeamMember.assignSpecialty(specialty);
-        var type = projectTeamMemberTypeRepository.findByName(ProjectTeamMemberTypes.valueOf(command.memberType()))
+        var type = referenceDataRegistry.findByName(ProjectTeamMemberType.class, ProjectTeamMemberTypes.valueOf(command.memberType()))
                 .orElseThrow(() -> new IllegalArgumentException("Project team member type not found"));
         projectTeamMember.assignTeamMemberType(type);
         projectTeamMember.setPersonalInformation(new PersonId(personId), personInformation.name(), personInformation.email());
@@ -102,7 +97,7 @@ public class ProjectTeamMemberCommandServiceImpl implements ProjectTeamMemberCom
      * @throws IllegalArgumentException if the specialty is not found
      */
     private Specialty getSpecialty(Specialties name) {
-        return this.specialtyRepository.findByName(name)
+        return this.referenceDataRegistry.findByName(Specialty.class, name)
                 .orElseThrow(() -> new IllegalArgumentException("Specialty not found"));
     }
 
@@ -114,7 +109,7 @@ public class ProjectTeamMemberCommandServiceImpl implements ProjectTeamMemberCom
      * @throws IllegalArgumentException if the type is not found
      */
     private ProjectTeamMemberType getProjectTeamMemberType(ProjectTeamMemberTypes name) {
-        return this.projectTeamMemberTypeRepository.findByName(name)
+        return this.referenceDataRegistry.findByName(ProjectTeamMemberType.class, name)
                 .orElseThrow(() -> new IllegalArgumentException("Project team member type not found"));
     }
 
@@ -5,14 +5,15 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregate
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.commands.CreateTaskCommand;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.commands.DeleteTaskCommand;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.commands.UpdateTaskCommand;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.TaskStatus;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.*;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.TaskCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.MilestoneRepository;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.SpecialtyRepository;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.TaskRepository;
-import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.TaskStatusRepository;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.MilestoneId;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataRegistry;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -21,19 +22,16 @@ import java.util.Optional;
 public class TaskCommandServiceImpl implements TaskCommandService {
     private final TaskRepository taskRepository;
     private final MilestoneRepository milestoneRepository;
-    private final SpecialtyRepository specialtyRepository;
-    private final TaskStatusRepository taskStatusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final IAMContextFacade iamContextFacade;
 
     public TaskCommandServiceImpl(TaskRepository taskRepository,
                                   MilestoneRepository milestoneRepository,
-                                  SpecialtyRepository specialtyRepository,
-                                  TaskStatusRepository taskStatusRepository,
+                                  ReferenceDataRegistry referenceDataRegistry,
                                   IAMContextFacade iamContextFacade) {
         this.taskRepository = taskRepository;
         this.milestoneRepository = milestoneRepository;
-        this.specialtyRepository = specialtyRepository;
-        this.taskStatusRepository = taskStatusRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.iamContextFacade = iamContextFacade;
     }
 
@@ -57,20 +55,20 @@ public class TaskCommandServiceImpl implements TaskCommandService {
 
         }
 
-        var specialty = specialtyRepository.findByName(Specialties.valueOf(command.Specialty()))
+        var specialty = referenceDataRegistry.findByName(Specialty.class, Specialties.valueOf(command.Specialty()))
                 .orElseThrow(() -> new IllegalArgumentException(
                         "The specialty with the name " + command.Specialty() + "does not exists"
                 ));
         task.setSpecialty(specialty);
 
         if (command.Status() == null || command.PersonId() == null){
-            var draftStatus = taskStatusRepository.findByName(TaskStatuses.DRAFT)
+            var draftStatus = referenceDataRegistry.findByName(TaskStatus.class, TaskStatuses.DRAFT)
                     .orElseThrow(() -> new IllegalArgumentException(
                             "The task status with the name " + TaskStatuses.DRAFT + "does not exists"
                     ));
             task.toDraft(draftStatus);
         } else{
-            var status = taskStatusRepository.findByName(TaskStatuses.valueOf(command.Status()))
+            var status = referenceDataRegistry.findByName(TaskStatus.class, TaskStatuses.valueOf(command.Status()))
                     .orElseThrow(() -> new IllegalArgumentException(
                             "The task status with the name " + command.Status() + "does not exists"
                     ));
@@ -99,7 +97,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         }
 
         if (command.status() != null){
-            var status = taskStatusRepository.findByName(TaskStatuses.valueOf(command.status()))
+            var status = referenceDataRegistry.findByName(TaskStatus.class, TaskStatuses.valueOf(command.status()))
                     .orElseThrow(() -> new IllegalArgumentException(
                             "The task status with the name " + command.status() + "does not exists"
                     ));
@@ -113,7 +111,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         }
 
         if(command.removePerson()){
-            var reassignedStatus = taskStatusRepository.findByName(TaskStatuses.DRAFT)
+            var reassignedStatus = referenceDataRegistry.findByName(TaskStatus.class, TaskStatuses.DRAFT)
                     .orElseThrow(() -> new IllegalArgumentException(
                             "The task status with the name " + TaskStatuses.DRAFT + "does not exists"
                     ));
@@ -1,14 +1,15 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.application.internal.queryservices;
 
-import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Project;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllProjectsByContractingEntityIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllProjectsByTeamMemberPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetProjectByProjectIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetProjectInfoByProjectIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectInfo;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.ProjectQueryService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectRepository;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -26,30 +27,30 @@ public class ProjectQueryServiceImpl implements ProjectQueryService {
      * {@inheritDoc}
      */
     @Override
-    public List<Project> handle(GetAllProjectsByTeamMemberPersonIdQuery query) {
-        return projectRepository.findAllProjectsByTeamMemberPersonId(query.personId())
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "The person with the ID " + query.personId() + " is not part of any project team"));
+    public List<ProjectSummary> handle(GetAllProjectsByTeamMemberPersonIdQuery query) {
+        return projectRepository.findSummariesByTeamMemberPersonId(query.personId());
     }
 
     @Override
     public Optional<ProjectInfo> handle(GetProjectInfoByProjectIdQuery query){
-        var project =  projectRepository.findById(query.projectId())
+        var project =  projectRepository.findSummaryById(query.projectId())
                 .orElseThrow(() -> new IllegalArgumentException(
                         "The project with the id " + query.projectId() + "does not exists"
                 ));
-        var projectInfo = new ProjectInfo(project.getId(), project.getProjectName().projectName(), project.getStatus().getStringName());
+        var projectInfo = new ProjectInfo(project.id(), project.projectName(), project.status().name());
         return Optional.of(projectInfo);
     }
 
     @Override
-    public Optional<Project> handle(GetProjectByProjectIdQuery query){
-        return projectRepository.findById(query.projectId());
+    public Optional<ProjectSummary> handle(GetProjectByProjectIdQuery query){
+        return projectRepository.findSummaryById(query.projectId());
     }
 
     @Override
-    public Optional<List<Project>> handle(GetAllProjectsByContractingEntityIdQuery query){
-        var contractingEntityId = new PersonId(query.contractingEntityId());
-        return projectRepository.findAllProjectsByContractingEntityId(contractingEntityId);
+    public KeysetPage<ProjectSummary> handle(GetAllProjectsByContractingEntityIdQuery query){
+        var page = query.page();
+        var projects = projectRepository.findPageByContractingEntityId(
+                query.contractingEntityId(), page.afterCreatedAt(), page.afterId(), Limit.of(page.fetchSize()));
+        return KeysetPage.of(projects, page, ProjectSummary::createdAt, ProjectSummary::id);
     }
 }
@@ -4,12 +4,10 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregate
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTeamMembersByProjectIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.ProjectTeamMemberQueryService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectTeamMemberRepository;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProjectId;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
-
 @Service
 public class ProjectTeamMemberQueryServiceImpl implements ProjectTeamMemberQueryService {
     private final ProjectTeamMemberRepository projectTeamMemberRepository;
@@ -18,8 +16,10 @@ public class ProjectTeamMemberQueryServiceImpl implements ProjectTeamMemberQuery
         this.projectTeamMemberRepository = projectTeamMemberRepository;
     }
 
-    public Optional<List<ProjectTeamMember>> handle(GetAllTeamMembersByProjectIdQuery query){
-        var projectId = new ProjectId(query.projectId());
-        return projectTeamMemberRepository.findAllByProjectId(projectId);
+    public KeysetPage<ProjectTeamMember> handle(GetAllTeamMembersByProjectIdQuery query){
+        var page = query.page();
+        var projectTeamMembers = projectTeamMemberRepository.findPageByProjectId(
+                query.projectId(), page.afterCreatedAt(), page.afterId(), Limit.of(page.fetchSize()));
+        return KeysetPage.of(projectTeamMembers, page, ProjectTeamMember::getCreatedAt, ProjectTeamMember::getId);
     }
 }
@@ -1,16 +1,15 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.application.internal.queryservices;
 
-import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Task;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTasksByMilestoneIdAndPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTasksByMilestoneIdQuery;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.TaskQueryService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.TaskRepository;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.MilestoneId;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 public class TaskQueryServiceImpl implements TaskQueryService {
@@ -20,14 +19,14 @@ public class TaskQueryServiceImpl implements TaskQueryService {
         this.taskRepository = taskRepository;
     }
 
-    public Optional<List<Task>> handle(GetAllTasksByMilestoneIdQuery query){
-        var milestoneId = new MilestoneId(query.milestoneId());
-        return taskRepository.findByMilestoneId(milestoneId);
+    public KeysetPage<TaskSummary> handle(GetAllTasksByMilestoneIdQuery query){
+        var page = query.page();
+        var tasks = taskRepository.findPageByMilestoneId(
+                query.milestoneId(), page.afterCreatedAt(), page.afterId(), Limit.of(page.fetchSize()));
+        return KeysetPage.of(tasks, page, TaskSummary::createdAt, TaskSummary::id);
     }
 
-    public Optional<List<Task>> handle(GetAllTasksByMilestoneIdAndPersonIdQuery query){
-        var milestoneId = new MilestoneId(query.milestoneId());
-        var personId = new PersonId(query.personId());
-        return taskRepository.findByMilestoneIdAndPersonId(milestoneId, personId);
+    public List<TaskSummary> handle(GetAllTasksByMilestoneIdAndPersonIdQuery query){
+        return taskRepository.findSummariesByMilestoneIdAndPersonId(query.milestoneId(), query.personId());
     }
 }
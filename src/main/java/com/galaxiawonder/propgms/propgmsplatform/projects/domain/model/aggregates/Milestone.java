@@ -22,7 +22,10 @@ import lombok.Setter;
  * @since 1.0
  */
 @Entity
+@Table(indexes = @Index(name = Milestone.PROJECT_INDEX, columnList = "project_id"))
 public class Milestone extends AuditableAbstractAggregateRoot<Milestone> {
+    /** Name of the index used to list the milestones of a project */
+    public static final String PROJECT_INDEX = "idx_milestones_project";
 
     /**
      * The name of the milestone.
@@ -29,9 +29,12 @@ import java.util.*;
  * @since 1.0
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects",
+        indexes = @Index(name = Project.CONTRACTING_ENTITY_KEYSET_INDEX, columnList = "person_id, created_at, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class Project extends AuditableAbstractAggregateRoot<Project> {
+    /** Name of the index used to page through the projects of a contracting entity */
+    public static final String CONTRACTING_ENTITY_KEYSET_INDEX = "idx_projects_contracting_entity_keyset";
 
     /** Name of the project, encapsulated in a description object. */
     @Column(nullable = false)
@@ -28,8 +28,21 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @NoArgsConstructor
 @Entity
+@Table(indexes = {
+        @Index(name = ProjectTeamMember.PROJECT_KEYSET_INDEX, columnList = "project_id, created_at, id"),
+        @Index(name = ProjectTeamMember.PERSON_PROJECT_INDEX, columnList = "person_id, project_id"),
+        @Index(name = ProjectTeamMember.PROJECT_ORGANIZATION_MEMBER_INDEX, columnList = "project_id, organization_member_id")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class ProjectTeamMember extends AuditableAbstractAggregateRoot<ProjectTeamMember> {
+    /** Name of the index used to page through the team members of a project */
+    public static final String PROJECT_KEYSET_INDEX = "idx_project_team_members_project_keyset";
+
+    /** Name of the index used to find the projects a person is a team member of */
+    public static final String PERSON_PROJECT_INDEX = "idx_project_team_members_person_project";
+
+    /** Name of the index used to look up the team member of an organization member within a project */
+    public static final String PROJECT_ORGANIZATION_MEMBER_INDEX = "idx_project_team_members_project_organization_member";
 
     /**
      * Identifier of the project to which this member is assigned.
@@ -13,7 +13,11 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = Task.PERSON_INDEX, columnList = "person_id"))
 public class Task extends MilestoneItem {
+    /** Name of the index used to find the tasks assigned to a person */
+    public static final String PERSON_INDEX = "idx_tasks_person";
+
     @Setter
     @Getter
     @ManyToOne(fetch = FetchType.EAGER, optional = false)
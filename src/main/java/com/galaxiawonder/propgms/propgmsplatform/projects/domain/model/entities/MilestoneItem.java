@@ -29,8 +29,11 @@ import java.util.Date;
  * @since 1.0
  */
 @Entity
+@Table(indexes = @Index(name = MilestoneItem.MILESTONE_KEYSET_INDEX, columnList = "milestone_id, created_at, id"))
 @Inheritance(strategy = InheritanceType.JOINED)
 public abstract class MilestoneItem extends AuditableAbstractAggregateRoot<MilestoneItem> {
+    /** Name of the index used to page through the items of a milestone */
+    public static final String MILESTONE_KEYSET_INDEX = "idx_milestone_items_milestone_keyset";
 
     /**
      * The projectName of the milestone item.
@@ -41,7 +41,7 @@ public class ProjectStatus {
      * Enum description representing the status of the project.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 30)
+    @Column(length = 30, unique = true)
     private ProjectStatuses name;
 
     /**
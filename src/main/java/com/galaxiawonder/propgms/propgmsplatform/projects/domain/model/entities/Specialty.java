@@ -38,7 +38,7 @@ public class Specialty {
      * Enum description representing the specialty type.
      */
     @Enumerated(EnumType.STRING)
-    @Column(length = 30)
+    @Column(length = 30, unique = true)
     private Specialties name;
 
     /**
@@ -1,4 +1,6 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries;
 
-public record GetAllProjectsByContractingEntityIdQuery(Long contractingEntityId) {
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPageRequest;
+
+public record GetAllProjectsByContractingEntityIdQuery(Long contractingEntityId, KeysetPageRequest page) {
 }
@@ -1,4 +1,6 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries;
 
-public record GetAllTasksByMilestoneIdQuery(Long milestoneId) {
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPageRequest;
+
+public record GetAllTasksByMilestoneIdQuery(Long milestoneId, KeysetPageRequest page) {
 }
@@ -2,6 +2,7 @@ package com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries;
 
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Project;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.ProjectTeamMember;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPageRequest;
 
 /**
  * Query object used to retrieve all {@link ProjectTeamMember} entities
@@ -13,10 +14,12 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregate
  * </p>
  *
  * @param projectId the unique identifier of the project whose members are being requested
+ * @param page the page of members to retrieve
  *
  * @since 1.0
  */
 public record GetAllTeamMembersByProjectIdQuery(
-        Long projectId
+        Long projectId,
+        KeysetPageRequest page
 ) {
 }
@@ -0,0 +1,29 @@
+package com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * ProjectSummary
+ *
+ * @summary
+ * Read-only view of a project with the columns exposed by the API and the name of its status,
+ * selected directly by the repository so that listings do not load the {@code Project} aggregate.
+ *
+ * @param id the identifier of the project
+ * @param projectName the name of the project
+ * @param description the description of the project, may be {@code null}
+ * @param status the name of the project status
+ * @param startDate the start of the date range
+ * @param endDate the end of the date range
+ * @param organizationId the identifier of the organization responsible for the project
+ * @param contractingEntityId the person ID of the contracting entity
+ * @param createdAt the creation date of the project, used to page through listings
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record ProjectSummary(Long id, String projectName, String description, ProjectStatuses status,
+                             Date startDate, Date endDate, Long organizationId, Long contractingEntityId,
+                             Date createdAt) {
+}
@@ -0,0 +1,30 @@
+package com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * TaskSummary
+ *
+ * @summary
+ * Read-only view of a task with the columns exposed by the API and the names of its status and specialty,
+ * selected directly by the repository so that listings do not load the {@code Task} aggregate.
+ *
+ * @param id the identifier of the task
+ * @param name the name of the task
+ * @param description the description of the task, may be {@code null}
+ * @param startDate the start of the date range
+ * @param endDate the end of the date range
+ * @param milestoneId the identifier of the milestone the task belongs to
+ * @param specialty the name of the specialty required by the task
+ * @param status the name of the task status
+ * @param personId the identifier of the person responsible for the task, may be {@code null}
+ * @param createdAt the creation date of the task, used to page through listings
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record TaskSummary(Long id, String name, String description, Date startDate, Date endDate,
+                          Long milestoneId, Specialties specialty, TaskStatuses status, Long personId,
+                          Date createdAt) {
+}
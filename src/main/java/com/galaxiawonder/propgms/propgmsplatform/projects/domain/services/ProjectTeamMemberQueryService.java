@@ -2,10 +2,8 @@ package com.galaxiawonder.propgms.propgmsplatform.projects.domain.services;
 
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.ProjectTeamMember;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTeamMembersByProjectIdQuery;
-
-import java.util.List;
-import java.util.Optional;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
 
 public interface ProjectTeamMemberQueryService {
-    Optional<List<ProjectTeamMember>> handle(GetAllTeamMembersByProjectIdQuery query);
+    KeysetPage<ProjectTeamMember> handle(GetAllTeamMembersByProjectIdQuery query);
 }
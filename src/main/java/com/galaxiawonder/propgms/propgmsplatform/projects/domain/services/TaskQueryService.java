@@ -1,13 +1,13 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.domain.services;
 
-import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Task;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTasksByMilestoneIdAndPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTasksByMilestoneIdQuery;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface TaskQueryService {
-    Optional<List<Task>> handle(GetAllTasksByMilestoneIdQuery query);
-    Optional<List<Task>> handle(GetAllTasksByMilestoneIdAndPersonIdQuery query);
+    KeysetPage<TaskSummary> handle(GetAllTasksByMilestoneIdQuery query);
+    List<TaskSummary> handle(GetAllTasksByMilestoneIdAndPersonIdQuery query);
 }
@@ -0,0 +1,51 @@
+package com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.configuration;
+
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.ProjectStatus;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.ProjectTeamMemberType;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.Specialty;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.entities.TaskStatus;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectTeamMemberTypes;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.Specialties;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskStatuses;
+import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectStatusRepository;
+import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.ProjectTeamMemberTypeRepository;
+import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.SpecialtyRepository;
+import com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories.TaskStatusRepository;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ProjectsReferenceDataConfiguration
+ *
+ * @summary
+ * Declares the enum-backed lookup tables of the projects context, so that they are
+ * resolved through the shared reference data registry.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Configuration
+public class ProjectsReferenceDataConfiguration {
+    @Bean
+    ReferenceDataTable<ProjectStatuses, ProjectStatus> projectStatusReferenceData(ProjectStatusRepository repository) {
+        return new ReferenceDataTable<>(ProjectStatuses.class, ProjectStatus.class, repository, ProjectStatus::getName, ProjectStatus::new);
+    }
+
+    @Bean
+    ReferenceDataTable<ProjectTeamMemberTypes, ProjectTeamMemberType> projectTeamMemberTypeReferenceData(ProjectTeamMemberTypeRepository repository) {
+        return new ReferenceDataTable<>(ProjectTeamMemberTypes.class, ProjectTeamMemberType.class, repository, ProjectTeamMemberType::getName, ProjectTeamMemberType::new);
+    }
+
+    @Bean
+    ReferenceDataTable<Specialties, Specialty> specialtyReferenceData(SpecialtyRepository repository) {
+        return new ReferenceDataTable<>(Specialties.class, Specialty.class, repository, Specialty::getName, Specialty::new);
+    }
+
+    @Bean
+    ReferenceDataTable<TaskStatuses, TaskStatus> taskStatusReferenceData(TaskStatusRepository repository) {
+        return new ReferenceDataTable<>(TaskStatuses.class, TaskStatus.class, repository, TaskStatus::getName, TaskStatus::new);
+    }
+}
@@ -1,11 +1,13 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories;
 
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Project;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,19 +27,72 @@ import java.util.Optional;
  */
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     /**
-     * Retrieves all {@link Project} entities where the given person is registered as a project team member.
+     * Retrieves the summary of a project without loading the {@link Project} aggregate.
+     *
+     * @param projectId the ID of the project
+     * @return the {@link ProjectSummary} of the project, if it exists
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary(
+        p.id, p.projectName.projectName, p.description.description, s.name,
+        p.dateRange.startDate, p.dateRange.endDate, p.organizationId.organizationId,
+        p.contractingEntityId.personId, p.createdAt
+    )
+    FROM Project p
+    JOIN p.status s
+    WHERE p.id = :projectId
+""")
+    Optional<ProjectSummary> findSummaryById(@Param("projectId") Long projectId);
+
+    /**
+     * Retrieves the summaries of the projects where the given person is registered as a project team member.
      *
      * @param personId the ID of the person
-     * @return a list of projects where the person is a team member
+     * @return the {@link ProjectSummary} of each project where the person is a team member
      */
     @Query("""
-    SELECT p
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary(
+        p.id, p.projectName.projectName, p.description.description, s.name,
+        p.dateRange.startDate, p.dateRange.endDate, p.organizationId.organizationId,
+        p.contractingEntityId.personId, p.createdAt
+    )
     FROM Project p
-    JOIN ProjectTeamMember ptm ON ptm.projectId.projectId = p.id
-    WHERE ptm.personId.personId = :personId
+    JOIN p.status s
+    WHERE EXISTS (
+        SELECT ptm.id
+        FROM ProjectTeamMember ptm
+        WHERE ptm.projectId.projectId = p.id
+        AND ptm.personId.personId = :personId)
+    ORDER BY p.createdAt, p.id
 """)
-    Optional<List<Project>> findAllProjectsByTeamMemberPersonId(@Param("personId") Long personId);
+    List<ProjectSummary> findSummariesByTeamMemberPersonId(@Param("personId") Long personId);
 
-    Optional<List<Project>> findAllProjectsByContractingEntityId(PersonId contractingEntityId);
+    /**
+     * Retrieves a page of the summaries of the projects of a contracting entity, ordered by creation date and ID.
+     *
+     * @param contractingEntityId the person ID of the contracting entity
+     * @param afterCreatedAt the creation date of the last project of the previous page, or {@code null} for the first page
+     * @param afterId the ID of the last project of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of projects to retrieve
+     * @return the {@link ProjectSummary} of each project of the page
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary(
+        p.id, p.projectName.projectName, p.description.description, s.name,
+        p.dateRange.startDate, p.dateRange.endDate, p.organizationId.organizationId,
+        p.contractingEntityId.personId, p.createdAt
+    )
+    FROM Project p
+    JOIN p.status s
+    WHERE p.contractingEntityId.personId = :contractingEntityId
+    AND (:afterCreatedAt IS NULL
+        OR p.createdAt > :afterCreatedAt
+        OR (p.createdAt = :afterCreatedAt AND p.id > :afterId))
+    ORDER BY p.createdAt, p.id
+""")
+    List<ProjectSummary> findPageByContractingEntityId(@Param("contractingEntityId") Long contractingEntityId,
+                                                       @Param("afterCreatedAt") Date afterCreatedAt,
+                                                       @Param("afterId") Long afterId,
+                                                       Limit limit);
 
 }
\ No newline at end of file
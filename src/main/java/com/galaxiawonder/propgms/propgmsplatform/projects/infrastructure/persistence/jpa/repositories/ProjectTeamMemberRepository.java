@@ -3,8 +3,12 @@ package com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persis
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.ProjectTeamMember;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.OrganizationMemberId;
 import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.ProjectId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +27,30 @@ import java.util.Optional;
  */
 public interface ProjectTeamMemberRepository extends JpaRepository<ProjectTeamMember, Long> {
     Optional<ProjectTeamMember> findByOrganizationMemberIdAndProjectId(OrganizationMemberId organizationMemberId, ProjectId projectId);
-    Optional<List<ProjectTeamMember>> findAllByProjectId(ProjectId projectId);
+
+    /**
+     * Retrieves a page of the team members of a project, ordered by creation date and ID.
+     *
+     * @param projectId the ID of the project
+     * @param afterCreatedAt the creation date of the last member of the previous page, or {@code null} for the first page
+     * @param afterId the ID of the last member of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of members to retrieve
+     * @return the team members of the page
+     */
+    @Query("""
+    SELECT ptm
+    FROM ProjectTeamMember ptm
+    JOIN FETCH ptm.specialty
+    JOIN FETCH ptm.memberType
+    WHERE ptm.projectId.projectId = :projectId
+    AND (:afterCreatedAt IS NULL
+        OR ptm.createdAt > :afterCreatedAt
+        OR (ptm.createdAt = :afterCreatedAt AND ptm.id > :afterId))
+    ORDER BY ptm.createdAt, ptm.id
+""")
+    List<ProjectTeamMember> findPageByProjectId(@Param("projectId") Long projectId,
+                                                @Param("afterCreatedAt") Date afterCreatedAt,
+                                                @Param("afterId") Long afterId,
+                                                Limit limit);
 }
 
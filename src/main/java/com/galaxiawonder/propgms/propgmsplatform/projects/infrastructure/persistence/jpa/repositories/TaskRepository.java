@@ -1,14 +1,63 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.infrastructure.persistence.jpa.repositories;
 
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Task;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.MilestoneId;
-import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.PersonId;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
-import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    Optional<List<Task>> findByMilestoneId(MilestoneId milestoneId);
-    Optional<List<Task>> findByMilestoneIdAndPersonId(MilestoneId milestoneId, PersonId personId);
+    /**
+     * Retrieves a page of the summaries of the tasks of a milestone, ordered by creation date and ID.
+     *
+     * @param milestoneId the ID of the milestone
+     * @param afterCreatedAt the creation date of the last task of the previous page, or {@code null} for the first page
+     * @param afterId the ID of the last task of the previous page, or {@code null} for the first page
+     * @param limit the maximum number of tasks to retrieve
+     * @return the {@link TaskSummary} of each task of the page
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary(
+        t.id, t.name.milestoneItemName, t.description.description, t.range.startDate, t.range.endDate,
+        t.milestoneId.milestoneId, sp.name, st.name, t.personId.personId, t.createdAt
+    )
+    FROM Task t
+    JOIN t.specialty sp
+    JOIN t.status st
+    WHERE t.milestoneId.milestoneId = :milestoneId
+    AND (:afterCreatedAt IS NULL
+        OR t.createdAt > :afterCreatedAt
+        OR (t.createdAt = :afterCreatedAt AND t.id > :afterId))
+    ORDER BY t.createdAt, t.id
+""")
+    List<TaskSummary> findPageByMilestoneId(@Param("milestoneId") Long milestoneId,
+                                            @Param("afterCreatedAt") Date afterCreatedAt,
+                                            @Param("afterId") Long afterId,
+                                            Limit limit);
+
+    /**
+     * Retrieves the summaries of the tasks of a milestone assigned to a person, ordered by creation date and ID.
+     *
+     * @param milestoneId the ID of the milestone
+     * @param personId the ID of the person
+     * @return the {@link TaskSummary} of each task of the milestone assigned to the person
+     */
+    @Query("""
+    SELECT new com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary(
+        t.id, t.name.milestoneItemName, t.description.description, t.range.startDate, t.range.endDate,
+        t.milestoneId.milestoneId, sp.name, st.name, t.personId.personId, t.createdAt
+    )
+    FROM Task t
+    JOIN t.specialty sp
+    JOIN t.status st
+    WHERE t.milestoneId.milestoneId = :milestoneId
+    AND t.personId.personId = :personId
+    ORDER BY t.createdAt, t.id
+""")
+    List<TaskSummary> findSummariesByMilestoneIdAndPersonId(@Param("milestoneId") Long milestoneId,
+                                                           @Param("personId") Long personId);
 }
@@ -1,6 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemblers;
 
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Project;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.ProjectResource;
 
 public class ProjectResourceFromEntityAssembler {
@@ -23,4 +24,23 @@ public class ProjectResourceFromEntityAssembler {
                 project.getContractingEntityId().personId()
         );
     }
+
+    /**
+     * Converts a {@link ProjectSummary} read model into a {@link ProjectResource} DTO.
+     *
+     * @param summary the project summary to convert
+     * @return the corresponding {@link ProjectResource}
+     */
+    public static ProjectResource toResourceFromSummary(ProjectSummary summary) {
+        return new ProjectResource(
+                summary.id(),
+                summary.projectName(),
+                summary.description(),
+                summary.status().toString(),
+                summary.startDate(),
+                summary.endDate(),
+                summary.organizationId(),
+                summary.contractingEntityId()
+        );
+    }
 }
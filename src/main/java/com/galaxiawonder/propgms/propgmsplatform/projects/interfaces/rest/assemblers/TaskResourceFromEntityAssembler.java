@@ -1,6 +1,7 @@
 package com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemblers;
 
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregates.Task;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.TaskResource;
 
 public class TaskResourceFromEntityAssembler {
@@ -17,4 +18,18 @@ public class TaskResourceFromEntityAssembler {
                 entity.getPersonId() != null ? entity.getPersonId().personId() : null
         );
     }
+
+    public static TaskResource toResourceFromSummary(TaskSummary summary) {
+        return new TaskResource(
+                summary.id(),
+                summary.name(),
+                summary.description(),
+                summary.startDate(),
+                summary.endDate(),
+                summary.milestoneId(),
+                summary.specialty().name(),
+                summary.status().name(),
+                summary.personId()
+        );
+    }
 }
@@ -9,9 +9,12 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resour
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.commands.DeleteProjectCommand;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllProjectsByContractingEntityIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllProjectsByTeamMemberPersonIdQuery;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.ProjectSummary;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemblers.UpdateProjectCommandFromResourceAssembler;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.CreateProjectResource;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.ProjectResource;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.pagination.KeysetPagination;
 import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.resources.GenericMessageResource;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -43,19 +46,23 @@ import java.util.Optional;
 public class ProjectController {
     private final ProjectCommandService projectCommandService;
     private final ProjectQueryService projectQueryService;
+    private final KeysetPagination keysetPagination;
 
     /**
      * Constructor for ProjectController.
      * @param projectCommandService Project command service
      * @param projectQueryService Project query service}
+     * @param keysetPagination Keyset pagination of the listing endpoints
      * @see ProjectCommandService
      * @see ProjectQueryService
      */
 
     ProjectController(ProjectCommandService projectCommandService,
-                      ProjectQueryService projectQueryService) {
+                      ProjectQueryService projectQueryService,
+                      KeysetPagination keysetPagination) {
         this.projectCommandService = projectCommandService;
         this.projectQueryService = projectQueryService;
+        this.keysetPagination = keysetPagination;
     }
 
     /**
@@ -86,30 +93,35 @@ public class ProjectController {
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectResource> getProjectById(@PathVariable Long projectId) {
         var query = new GetProjectByProjectIdQuery(projectId);
-        Optional<Project> project = projectQueryService.handle(query);
-        return project.map(source -> new ResponseEntity<>(ProjectResourceFromEntityAssembler.toResourceFromEntity(source), HttpStatus.OK))
+        Optional<ProjectSummary> project = projectQueryService.handle(query);
+        return project.map(source -> new ResponseEntity<>(ProjectResourceFromEntityAssembler.toResourceFromSummary(source), HttpStatus.OK))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     @Operation(
             summary = "Get project by contracting entity Id",
-            description = "Retrieves a project by a contracting entity Id"
+            description = "Retrieves one page of the projects of a contracting entity Id. "
+                    + "The next page, if any, is linked in the Link header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Projects retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "404", description = "Projects not found")
     })
     @GetMapping("by-contracting-entity-id/{contractingEntityId}")
-    public ResponseEntity<List<ProjectResource>> getProjectsByContractingEntityId(@PathVariable Long contractingEntityId) {
-        var query = new GetAllProjectsByContractingEntityIdQuery(contractingEntityId);
-        Optional<List<Project>> projects = projectQueryService.handle(query);
-
-        List<ProjectResource> resources = projects.map(source -> source.stream()
-                .map(ProjectResourceFromEntityAssembler::toResourceFromEntity)
-                .toList())
-                .orElseGet(List::of);
-
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+    public ResponseEntity<List<ProjectResource>> getProjectsByContractingEntityId(
+            @PathVariable Long contractingEntityId,
+            @Parameter(description = "Cursor of the page")
+            @RequestParam(name = KeysetPagination.CURSOR_PARAMETER, required = false) String cursor,
+            @Parameter(description = "Number of projects per page")
+            @RequestParam(name = KeysetPagination.SIZE_PARAMETER, required = false) Integer size) {
+        var pageRequest = keysetPagination.toPageRequest(cursor, size);
+        if (pageRequest.isEmpty()) return ResponseEntity.badRequest().build();
+
+        var query = new GetAllProjectsByContractingEntityIdQuery(contractingEntityId, pageRequest.get());
+        KeysetPage<ProjectSummary> projects = projectQueryService.handle(query);
+
+        return keysetPagination.toResponseEntity(projects.map(ProjectResourceFromEntityAssembler::toResourceFromSummary));
     }
 
     /**
@@ -131,12 +143,12 @@ public class ProjectController {
             @Parameter(description = "ID of the person", required = true)
             @PathVariable("id") Long personId
     ) {
-        List<Project> projects = projectQueryService.handle(
+        List<ProjectSummary> projects = projectQueryService.handle(
                 new GetAllProjectsByTeamMemberPersonIdQuery(personId)
         );
 
         List<ProjectResource> resources = projects.stream()
-                .map(ProjectResourceFromEntityAssembler::toResourceFromEntity)
+                .map(ProjectResourceFromEntityAssembler::toResourceFromSummary)
                 .toList();
 
         return new ResponseEntity<>(resources, HttpStatus.OK);
@@ -10,8 +10,11 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemb
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemblers.ProjectTeamMemberResourceFromEntityAssembler;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.CreateProjectTeamMemberResource;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.ProjectTeamMemberResource;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.pagination.KeysetPagination;
 import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.resources.GenericMessageResource;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -29,11 +32,14 @@ import java.util.Optional;
 public class ProjectTeamMemberController {
     private final ProjectTeamMemberCommandService projectTeamMemberCommandService;
     private final ProjectTeamMemberQueryService projectTeamMemberQueryService;
+    private final KeysetPagination keysetPagination;
 
     public ProjectTeamMemberController(ProjectTeamMemberCommandService projectTeamMemberCommandService,
-                                       ProjectTeamMemberQueryService projectTeamMemberQueryService) {
+                                       ProjectTeamMemberQueryService projectTeamMemberQueryService,
+                                       KeysetPagination keysetPagination) {
         this.projectTeamMemberCommandService = projectTeamMemberCommandService;
         this.projectTeamMemberQueryService = projectTeamMemberQueryService;
+        this.keysetPagination = keysetPagination;
     }
 
     @Operation(
@@ -55,21 +61,28 @@ public class ProjectTeamMemberController {
 
     @Operation(
             summary = "Get all project team members by project Id",
-            description = "Retrieves all project team members associated with a specific project"
+            description = "Retrieves one page of the project team members associated with a specific project. "
+                    + "The next page, if any, is linked in the Link header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Project team members retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "404", description = "No project team members found for the project")
     })
     @GetMapping("/by-project-id/{projectId}")
-    public ResponseEntity<List<ProjectTeamMemberResource>> getAllProjectTeamMembersByProjectId(@PathVariable Long projectId){
-        Optional<List<ProjectTeamMember>> projectTeamMembers = projectTeamMemberQueryService
-                .handle(new GetAllTeamMembersByProjectIdQuery(projectId));
-        List<ProjectTeamMemberResource> resources = projectTeamMembers.map(source -> source.stream()
-                .map(ProjectTeamMemberResourceFromEntityAssembler::toResourceFromEntity)
-                .toList())
-                .orElseGet(List::of);
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+    public ResponseEntity<List<ProjectTeamMemberResource>> getAllProjectTeamMembersByProjectId(
+            @PathVariable Long projectId,
+            @Parameter(description = "Cursor of the page")
+            @RequestParam(name = KeysetPagination.CURSOR_PARAMETER, required = false) String cursor,
+            @Parameter(description = "Number of project team members per page")
+            @RequestParam(name = KeysetPagination.SIZE_PARAMETER, required = false) Integer size){
+        var pageRequest = keysetPagination.toPageRequest(cursor, size);
+        if (pageRequest.isEmpty()) return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+
+        KeysetPage<ProjectTeamMember> projectTeamMembers = projectTeamMemberQueryService
+                .handle(new GetAllTeamMembersByProjectIdQuery(projectId, pageRequest.get()));
+        return keysetPagination.toResponseEntity(
+                projectTeamMembers.map(ProjectTeamMemberResourceFromEntityAssembler::toResourceFromEntity));
     }
 
     @Operation(
@@ -4,6 +4,7 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.aggregate
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.commands.DeleteTaskCommand;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTasksByMilestoneIdAndPersonIdQuery;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.queries.GetAllTasksByMilestoneIdQuery;
+import com.galaxiawonder.propgms.propgmsplatform.projects.domain.model.valueobjects.TaskSummary;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.TaskCommandService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.domain.services.TaskQueryService;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemblers.CreateTaskCommandFromResourceAssembler;
@@ -12,8 +13,11 @@ import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.assemb
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.CreateTaskResource;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.TaskResource;
 import com.galaxiawonder.propgms.propgmsplatform.projects.interfaces.rest.resources.UpdateTaskResource;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.pagination.KeysetPagination;
 import com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.resources.GenericMessageResource;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -32,11 +36,14 @@ import java.util.Optional;
 public class TaskController {
     private final TaskCommandService taskCommandService;
     private final TaskQueryService taskQueryService;
+    private final KeysetPagination keysetPagination;
 
     public TaskController(TaskCommandService taskCommandService,
-                          TaskQueryService taskQueryService) {
+                          TaskQueryService taskQueryService,
+                          KeysetPagination keysetPagination) {
         this.taskCommandService = taskCommandService;
         this.taskQueryService = taskQueryService;
+        this.keysetPagination = keysetPagination;
     }
 
     @Operation(
@@ -75,21 +82,27 @@ public class TaskController {
 
     @Operation(
             summary = "Get all tasks by milestone Id",
-            description = "Retrieves all tasks associated with a specific milestone"
+            description = "Retrieves one page of the tasks associated with a specific milestone. "
+                    + "The next page, if any, is linked in the Link header"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "404", description = "No tasks found for the milestone")
     })
     @GetMapping("/by-milestone-id/{milestoneId}")
-    public ResponseEntity<List<TaskResource>> getAllTasksByMilestoneId(@PathVariable Long milestoneId){
-        Optional<List<Task>> tasks = taskQueryService
-                .handle(new GetAllTasksByMilestoneIdQuery(milestoneId));
-        List<TaskResource> resources = tasks.map(source -> source.stream()
-                        .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                        .toList())
-                .orElseGet(List::of);
-        return new ResponseEntity<>(resources, HttpStatus.OK);
+    public ResponseEntity<List<TaskResource>> getAllTasksByMilestoneId(
+            @PathVariable Long milestoneId,
+            @Parameter(description = "Cursor of the page")
+            @RequestParam(name = KeysetPagination.CURSOR_PARAMETER, required = false) String cursor,
+            @Parameter(description = "Number of tasks per page")
+            @RequestParam(name = KeysetPagination.SIZE_PARAMETER, required = false) Integer size){
+        var pageRequest = keysetPagination.toPageRequest(cursor, size);
+        if (pageRequest.isEmpty()) return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+
+        KeysetPage<TaskSummary> tasks = taskQueryService
+                .handle(new GetAllTasksByMilestoneIdQuery(milestoneId, pageRequest.get()));
+        return keysetPagination.toResponseEntity(tasks.map(TaskResourceFromEntityAssembler::toResourceFromSummary));
     }
 
     @Operation(
@@ -102,12 +115,11 @@ public class TaskController {
     })
     @GetMapping("/by-milestone-id/{milestoneId}/by-person-id/{personId}")
     public ResponseEntity<List<TaskResource>> getAllTasksByMilestoneIdAndPersonId(@PathVariable Long milestoneId, @PathVariable Long personId){
-        Optional<List<Task>> tasks = taskQueryService
+        List<TaskSummary> tasks = taskQueryService
                 .handle(new GetAllTasksByMilestoneIdAndPersonIdQuery(milestoneId, personId));
-        List<TaskResource> resources = tasks.map(source -> source.stream()
-                        .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                        .toList())
-                .orElseGet(List::of);
+        List<TaskResource> resources = tasks.stream()
+                .map(TaskResourceFromEntityAssembler::toResourceFromSummary)
+                .toList();
         return new ResponseEntity<>(resources, HttpStatus.OK);
     }
 
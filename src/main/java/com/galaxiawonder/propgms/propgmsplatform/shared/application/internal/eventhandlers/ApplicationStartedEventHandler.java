@@ -0,0 +1,67 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.application.internal.eventhandlers;
+
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.queryplans.QueryPlanValidator;
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata.ReferenceDataSeeder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * ApplicationStartedEventHandler
+ *
+ * @summary
+ * Event handler responsible for seeding the lookup tables of every bounded context
+ * (statuses, types, specialties and origins) once the application context has started.
+ *
+ * Seeding runs before the application is reported as ready, so it never accepts
+ * traffic while a lookup table is still missing rows. When query plan validation is enabled,
+ * the repository queries are explained once the lookup tables are seeded.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Service("SharedApplicationStartedEventHandler")
+public class ApplicationStartedEventHandler {
+
+    /** Seeder for the reference data tables of all bounded contexts. */
+    private final ReferenceDataSeeder referenceDataSeeder;
+
+    /** Validator for the query plans of the repository queries. */
+    private final QueryPlanValidator queryPlanValidator;
+
+    /** Logger instance for recording application events. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationStartedEventHandler.class);
+
+    /**
+     * Constructs a new {@code ApplicationStartedEventHandler} with the reference data seeder.
+     *
+     * @param referenceDataSeeder the seeder used for the lookup tables
+     * @param queryPlanValidator the validator used for the repository query plans
+     */
+    public ApplicationStartedEventHandler(ReferenceDataSeeder referenceDataSeeder,
+                                          QueryPlanValidator queryPlanValidator) {
+        this.referenceDataSeeder = referenceDataSeeder;
+        this.queryPlanValidator = queryPlanValidator;
+    }
+
+    /**
+     * Handles the {@link ApplicationStartedEvent} by seeding the reference data tables
+     * and, when enabled, validating the repository query plans.
+     *
+     * @param event the Spring application started event
+     */
+    @EventListener
+    public void onApplicationStarted(ApplicationStartedEvent event) {
+        var applicationName = event.getApplicationContext().getId();
+        LOGGER.info("Checking if reference data needs seeding for {}", applicationName);
+
+        referenceDataSeeder.seedAll();
+
+        LOGGER.info("Reference data seeding completed for {}", applicationName);
+
+        if (queryPlanValidator.isEnabled()) queryPlanValidator.validate();
+    }
+}
@@ -1,5 +1,6 @@
 package com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.aggregates;
 
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.identifiers.PooledTableId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -20,7 +21,7 @@ import java.util.Date;
 @MappedSuperclass
 public class AuditableAbstractAggregateRoot<T extends AbstractAggregateRoot<T>> extends AbstractAggregateRoot<T> {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId
     private Long id;
 
     @CreatedDate
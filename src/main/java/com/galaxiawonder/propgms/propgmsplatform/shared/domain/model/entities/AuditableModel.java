@@ -1,5 +1,6 @@
 package com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.entities;
 
+import com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.identifiers.PooledTableId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -13,7 +14,7 @@ import java.util.Date;
 public class AuditableModel {
     @Id
     @Getter
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId
     private Long id;
 
     @Getter
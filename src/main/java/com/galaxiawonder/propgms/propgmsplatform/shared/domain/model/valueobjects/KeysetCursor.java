@@ -0,0 +1,32 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * KeysetCursor
+ *
+ * @summary
+ * Value object that marks a position in a listing ordered by creation date and identifier.
+ * A page starts right after the row identified by the cursor, so listings can be walked
+ * without counting or skipping the rows of earlier pages.
+ *
+ * @param createdAt the creation date of the last row of the previous page
+ * @param id the identifier of the last row of the previous page, breaking ties on {@code createdAt}
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record KeysetCursor(Date createdAt, Long id) {
+
+    /**
+     * Validates the cursor values.
+     *
+     * @throws IllegalArgumentException if {@code createdAt} or {@code id} is null
+     */
+    public KeysetCursor {
+        if (createdAt == null || id == null) {
+            throw new IllegalArgumentException("Cursor creation date and id cannot be null");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * KeysetPage
+ *
+ * @summary
+ * Read model for one page of a keyset-paginated listing.
+ * Holds the rows of the page and, when more rows follow, the cursor to request the next page.
+ *
+ * @param items the rows of the page
+ * @param next the cursor of the next page, or {@code null} if this is the last page
+ * @param <T> the type of the rows
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record KeysetPage<T>(List<T> items, KeysetCursor next) {
+
+    public KeysetPage {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * Builds a page from rows fetched with one row more than the requested size.
+     * The extra row is only used to detect that a next page exists and is not returned.
+     *
+     * @param rows the fetched rows, at most {@link KeysetPageRequest#fetchSize()}
+     * @param request the requested page
+     * @param createdAtOf extracts the creation date of a row
+     * @param idOf extracts the identifier of a row
+     * @return the page
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, KeysetPageRequest request,
+                                       Function<T, Date> createdAtOf, Function<T, Long> idOf) {
+        if (rows.size() <= request.size()) return new KeysetPage<>(rows, null);
+        var items = rows.subList(0, request.size());
+        var last = items.getLast();
+        return new KeysetPage<>(items, new KeysetCursor(createdAtOf.apply(last), idOf.apply(last)));
+    }
+
+    /**
+     * Indicates whether more rows follow this page.
+     *
+     * @return {@code true} if a next page exists
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * Transforms the rows of the page, keeping its cursor.
+     *
+     * @param mapper the transformation applied to each row
+     * @return the transformed page
+     */
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(items.stream().<R>map(mapper).toList(), next);
+    }
+}
@@ -0,0 +1,59 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects;
+
+import java.util.Date;
+
+/**
+ * KeysetPageRequest
+ *
+ * @summary
+ * Value object describing the page of a keyset-paginated listing to retrieve.
+ * The first page has no cursor; every following page starts after the cursor of the previous one.
+ *
+ * @param after the cursor of the previous page, or {@code null} for the first page
+ * @param size the maximum number of rows of the page, must be positive
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record KeysetPageRequest(KeysetCursor after, int size) {
+
+    /**
+     * Validates the page size.
+     *
+     * @throws IllegalArgumentException if {@code size} is not positive
+     */
+    public KeysetPageRequest {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+    }
+
+    /**
+     * Returns the number of rows to fetch for the page: one more than its size,
+     * so that the extra row reveals whether a next page exists.
+     *
+     * @return the number of rows to fetch
+     */
+    public int fetchSize() {
+        return size + 1;
+    }
+
+    /**
+     * Returns the creation date the page starts after.
+     *
+     * @return the creation date of the cursor, or {@code null} for the first page
+     */
+    public Date afterCreatedAt() {
+        return after == null ? null : after.createdAt();
+    }
+
+    /**
+     * Returns the identifier the page starts after.
+     *
+     * @return the identifier of the cursor, or {@code null} for the first page
+     */
+    public Long afterId() {
+        return after == null ? null : after.id();
+    }
+}
@@ -0,0 +1,58 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.identifiers;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * IdSequenceInitializer
+ *
+ * @summary
+ * Makes sure that every entity using {@link PooledTableId} has its row in {@code id_sequences} before
+ * the first insert. A missing row starts right after the highest identifier already stored in the
+ * entity table, so tables created with {@code IDENTITY} columns keep their identifiers. Existing rows
+ * are left untouched. Migration {@code V1_5} performs the same seeding where Flyway manages the schema.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class IdSequenceInitializer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IdSequenceInitializer.class);
+    private static final String SEED_SEQUENCE_SQL = """
+            INSERT IGNORE INTO %s (%s, %s)
+            SELECT ?, COALESCE(MAX(%s), 0) + 1 FROM %s
+            """;
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceInitializer(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    void initialize() {
+        var metamodel = entityManagerFactory.getMetamodel();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .forEachEntityDescriptor(persister -> {
+                    if (!(persister.getGenerator() instanceof PooledTableIdGenerator)) return;
+                    if (!persister.getEntityName().equals(persister.getRootEntityName())) return;
+                    var segment = metamodel.entity(persister.getMappedClass()).getName();
+                    var table = ((AbstractEntityPersister) persister).getTableName();
+                    var sql = SEED_SEQUENCE_SQL.formatted(PooledTableIdGenerator.SEQUENCES_TABLE,
+                            PooledTableIdGenerator.SEQUENCE_NAME_COLUMN, PooledTableIdGenerator.NEXT_VALUE_COLUMN,
+                            persister.getIdentifierPropertyName(), table);
+                    if (jdbcTemplate.update(sql, segment) > 0)
+                        LOGGER.info("Seeded the identifier sequence of {} from table {}", segment, table);
+                });
+    }
+}
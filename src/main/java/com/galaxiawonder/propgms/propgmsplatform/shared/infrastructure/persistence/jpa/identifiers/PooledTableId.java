@@ -0,0 +1,27 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.identifiers;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * PooledTableId
+ *
+ * @summary
+ * Marks an identifier generated by the {@link PooledTableIdGenerator}, which reserves blocks of
+ * identifiers per table so that inserts can be batched.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface PooledTableId {
+}
@@ -0,0 +1,73 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.identifiers;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * PooledTableIdGenerator
+ *
+ * @summary
+ * Table-based hi/lo identifier generator with a pooled-lo optimizer. Each entity hierarchy has its own
+ * row in {@code id_sequences}, named after its root entity. That row holds the lowest identifier not yet reserved. A session reserves
+ * {@code persistence.id.allocation-size} identifiers with one update and then assigns them in memory.
+ *
+ * <p>Unlike {@code IDENTITY} columns, identifiers are known before the insert. Hibernate can therefore
+ * group inserts into JDBC batches. The allocation size is read from the Hibernate settings, so it is
+ * configured with {@code spring.jpa.properties.persistence.id.allocation-size}.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public class PooledTableIdGenerator extends TableGenerator {
+    /** Table holding the next identifier of each entity table */
+    public static final String SEQUENCES_TABLE = "id_sequences";
+
+    /** Column holding the name of the root entity */
+    public static final String SEQUENCE_NAME_COLUMN = "sequence_name";
+
+    /** Column holding the lowest identifier not yet reserved */
+    public static final String NEXT_VALUE_COLUMN = "next_val";
+
+    /** Hibernate setting with the number of identifiers reserved per round trip */
+    public static final String ALLOCATION_SIZE_SETTING = "persistence.id.allocation-size";
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        var segment = parameters.getProperty(IdentifierGenerator.JPA_ENTITY_NAME);
+        if (segment == null)
+            throw new MappingException("Pooled table identifiers require the name of the entity");
+        parameters.setProperty(TABLE_PARAM, SEQUENCES_TABLE);
+        parameters.setProperty(SEGMENT_COLUMN_PARAM, SEQUENCE_NAME_COLUMN);
+        parameters.setProperty(SEGMENT_VALUE_PARAM, segment);
+        parameters.setProperty(VALUE_COLUMN_PARAM, NEXT_VALUE_COLUMN);
+        parameters.setProperty(INITIAL_PARAM, "1");
+        parameters.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize(serviceRegistry)));
+        parameters.setProperty(OptimizableGenerator.OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, parameters, serviceRegistry);
+    }
+
+    private static int allocationSize(ServiceRegistry serviceRegistry) {
+        var setting = serviceRegistry.requireService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+        if (setting == null) return DEFAULT_ALLOCATION_SIZE;
+        var allocationSize = Integer.parseInt(setting.toString().trim());
+        if (allocationSize < 1)
+            throw new MappingException("The identifier allocation size must be positive: " + allocationSize);
+        return allocationSize;
+    }
+}
@@ -0,0 +1,19 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.queryplans;
+
+/**
+ * FullScan
+ *
+ * @summary
+ * A table read in full by the plan of a repository query, as reported by {@link QueryPlanValidator}.
+ *
+ * @param queryMethod the repository query method, as {@code Repository.method}
+ * @param table the table scanned
+ * @param accessType the access type in the plan, {@code ALL} for a table scan or {@code index} for a full index scan
+ * @param sql the statement explained
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record FullScan(String queryMethod, String table, String accessType, String sql) {
+}
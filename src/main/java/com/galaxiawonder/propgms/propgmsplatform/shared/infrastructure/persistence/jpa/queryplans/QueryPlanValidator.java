@@ -0,0 +1,181 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.queryplans;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * QueryPlanValidator
+ *
+ * @summary
+ * Startup check that every repository query is served by an index. Each query method of each
+ * Spring Data repository is invoked once with sample arguments inside a read-only transaction that
+ * is always rolled back, and the SQL it prepares is captured by the {@link StatementCapture}.
+ * Every distinct statement is then explained, and each table it reads with a full table scan
+ * ({@code ALL}) or a full index scan ({@code index}) is logged as a warning.
+ *
+ * <p>Sample values replace the statement parameters, so the plans reflect the indexes available
+ * rather than the data distribution. The check is enabled with
+ * {@code persistence.query-plan-validation.enabled} and is meant for local databases and the test
+ * suite, not for production startups.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class QueryPlanValidator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryPlanValidator.class);
+    private static final Set<Object> FULL_SCAN_ACCESS_TYPES = Set.of("ALL", "index");
+    private static final Pattern LIMIT_PLACEHOLDERS = Pattern.compile("(?i)\\b(?:limit|offset)\\s+\\?(?:\\s*,\\s*\\?)?");
+    private static final String SAMPLE_PARAMETER = "'1'";
+
+    private final ListableBeanFactory beanFactory;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final StatementCapture statementCapture;
+    private final boolean enabled;
+
+    public QueryPlanValidator(ListableBeanFactory beanFactory,
+                              PlatformTransactionManager transactionManager,
+                              JdbcTemplate jdbcTemplate,
+                              StatementCapture statementCapture,
+                              @Value("${persistence.query-plan-validation.enabled:false}") boolean enabled) {
+        this.beanFactory = beanFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.jdbcTemplate = jdbcTemplate;
+        this.statementCapture = statementCapture;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Tells whether query plans are validated at startup.
+     *
+     * @return {@code true} if {@code persistence.query-plan-validation.enabled} is set
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Explains the SQL of every repository query method and logs each full scan.
+     *
+     * @return the full scans found, in repository order
+     */
+    public List<FullScan> validate() {
+        var statements = new LinkedHashMap<String, String>();
+        var repositories = new Repositories(beanFactory);
+        for (var domainType : repositories) {
+            var repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            var information = repositories.getRequiredRepositoryInformation(domainType);
+            for (Method method : information.getQueryMethods()) {
+                var queryMethod = information.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                capture(repository, method).forEach(sql -> statements.putIfAbsent(sql, queryMethod));
+            }
+        }
+        var fullScans = new ArrayList<FullScan>();
+        for (var statement : statements.entrySet()) {
+            fullScans.addAll(explain(statement.getKey(), statement.getValue()));
+        }
+        LOGGER.info("Validated the plans of {} repository statements, {} full scans found", statements.size(), fullScans.size());
+        return fullScans;
+    }
+
+    /**
+     * Invokes a query method with sample arguments and returns the SQL it prepared.
+     * Failures are expected for some sample arguments and only logged, since the SQL is captured beforehand.
+     */
+    private List<String> capture(Object repository, Method method) {
+        return statementCapture.capture(() -> transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                method.invoke(repository, sampleArguments(method));
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOGGER.debug("Query method {} failed with sample arguments", method, e);
+            }
+        }));
+    }
+
+    /**
+     * Explains a statement and logs the tables it scans in full.
+     *
+     * @return the full scans in the plan
+     */
+    private List<FullScan> explain(String sql, String queryMethod) {
+        List<Map<String, Object>> plan;
+        try {
+            plan = jdbcTemplate.queryForList("EXPLAIN " + withSampleParameters(sql));
+        } catch (DataAccessException e) {
+            LOGGER.warn("Could not explain the query of {}: {}", queryMethod, e.getMessage());
+            return List.of();
+        }
+        var fullScans = new ArrayList<FullScan>();
+        for (var step : plan) {
+            var table = step.get("table");
+            if (table == null || table.toString().startsWith("<")) continue;
+            if (!FULL_SCAN_ACCESS_TYPES.contains(step.get("type"))) continue;
+            fullScans.add(new FullScan(queryMethod, table.toString(), step.get("type").toString(), sql));
+            LOGGER.warn("Query of {} scans all of {} (access type {}, possible keys {}): {}",
+                    queryMethod, table, step.get("type"), step.get("possible_keys"), sql);
+        }
+        return fullScans;
+    }
+
+    /**
+     * Replaces the parameter placeholders of a statement with literals, since MySQL only explains complete statements.
+     * Row limits take a number, every other parameter takes a string, which MySQL converts to the column type.
+     */
+    static String withSampleParameters(String sql) {
+        return LIMIT_PLACEHOLDERS.matcher(sql)
+                .replaceAll(match -> match.group().replace("?", "1"))
+                .replace("?", SAMPLE_PARAMETER);
+    }
+
+    private static Object[] sampleArguments(Method method) {
+        var parameters = method.getParameters();
+        var arguments = new Object[parameters.length];
+        for (var i = 0; i < parameters.length; i++) {
+            arguments[i] = sampleArgument(parameters[i].getType(), parameters[i].getParameterizedType());
+        }
+        return arguments;
+    }
+
+    private static Object sampleArgument(Class<?> type, Type genericType) {
+        if (type.isPrimitive()) return Array.get(Array.newInstance(type, 1), 0);
+        if (type == Limit.class) return Limit.of(1);
+        if (type == Pageable.class) return Pageable.ofSize(1);
+        if (type == Sort.class) return Sort.unsorted();
+        if (type.isAssignableFrom(List.class)) return sampleElements(genericType);
+        return null;
+    }
+
+    private static List<?> sampleElements(Type collectionType) {
+        if (!(collectionType instanceof ParameterizedType parameterized)) return List.of();
+        var elementType = parameterized.getActualTypeArguments()[0];
+        if (elementType == Long.class) return List.of(1L);
+        if (elementType == String.class) return List.of("1");
+        return List.of();
+    }
+}
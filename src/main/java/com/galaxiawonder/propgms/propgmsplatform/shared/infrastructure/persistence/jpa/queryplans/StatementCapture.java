@@ -0,0 +1,65 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.queryplans;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StatementCapture
+ *
+ * @summary
+ * Statement inspector that records the SQL Hibernate prepares on the current thread while a capture
+ * is open. Outside a capture statements pass through untouched, so registering it costs a single
+ * thread-local read per statement.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class StatementCapture implements StatementInspector, HibernatePropertiesCustomizer {
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    /**
+     * Runs an action and collects the SQL statements it prepares on the current thread.
+     * Statements are recorded before they are executed, so a failing action still yields its SQL.
+     *
+     * @param action the action to run
+     * @return the captured statements, in the order they were prepared
+     */
+    public List<String> capture(Runnable action) {
+        var statements = new ArrayList<String>();
+        CAPTURED.set(statements);
+        try {
+            action.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String inspect(String sql) {
+        var statements = CAPTURED.get();
+        if (statements != null) statements.add(sql);
+        return sql;
+    }
+
+    /**
+     * Registers this capture as the statement inspector of the session factory.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,133 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ReferenceDataRegistry
+ *
+ * @summary
+ * In-memory registry of the enum-backed lookup tables (statuses and types) of every bounded context.
+ * Each table is read once into an {@link EnumMap} and resolved from memory afterwards, so command
+ * handlers do not query the database to translate an enum constant into its row.
+ *
+ * <p>Tables are registered by the {@link ReferenceDataSeeder} at startup, or loaded on first use.
+ * When a constant is missing, the table is read again once, which covers rows seeded after the
+ * table was first loaded. The registered rows are detached and shared between threads; they may be
+ * assigned to associations but must not be modified.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class ReferenceDataRegistry {
+    private final Map<Class<?>, ReferenceDataTable<?, ?>> tables;
+    private final Map<Class<?>, Map<?, ?>> rows = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the registry over the tables declared by the bounded contexts.
+     *
+     * @param tables the reference data tables
+     * @throws IllegalArgumentException if two tables share the same entity type
+     */
+    public ReferenceDataRegistry(List<ReferenceDataTable<?, ?>> tables) {
+        var byEntityType = new HashMap<Class<?>, ReferenceDataTable<?, ?>>();
+        for (var table : tables) {
+            if (byEntityType.putIfAbsent(table.entityType(), table) != null)
+                throw new IllegalArgumentException("Duplicated reference data table for " + table.entityType().getSimpleName());
+        }
+        this.tables = Map.copyOf(byEntityType);
+    }
+
+    /**
+     * Returns the registered tables.
+     *
+     * @return the reference data tables
+     */
+    public List<ReferenceDataTable<?, ?>> getTables() {
+        return List.copyOf(tables.values());
+    }
+
+    /**
+     * Finds the row of a lookup table by its enum constant.
+     *
+     * @param entityType the entity mapped to the table
+     * @param name the enum constant naming the row
+     * @return an {@link Optional} containing the row, or empty if it has not been seeded
+     * @throws IllegalArgumentException if no table is registered for the entity type,
+     *         or the constant does not belong to the table
+     */
+    public <E extends Enum<E>, T> Optional<T> findByName(Class<T> entityType, E name) {
+        var table = getTable(entityType);
+        if (!table.names().isInstance(name))
+            throw new IllegalArgumentException(name + " does not name a " + entityType.getSimpleName());
+        Object row = rows.computeIfAbsent(entityType, type -> read(table)).get(name);
+        if (row == null) {
+            row = reload(table).get(name);
+        }
+        return Optional.ofNullable(entityType.cast(row));
+    }
+
+    /**
+     * Reads every registered table, replacing any previously loaded rows.
+     */
+    public void load() {
+        tables.values().forEach(this::reload);
+    }
+
+    /**
+     * Registers the rows of a table, replacing any previously loaded rows.
+     *
+     * @param table the table the rows belong to
+     * @param tableRows every row of the table
+     */
+    <E extends Enum<E>, T> void register(ReferenceDataTable<E, T> table, Collection<T> tableRows) {
+        rows.put(table.entityType(), index(table, tableRows));
+    }
+
+    /**
+     * Reads a table and registers its rows.
+     *
+     * @param table the table to read
+     * @return the rows of the table by enum constant
+     */
+    private Map<?, ?> reload(ReferenceDataTable<?, ?> table) {
+        var loaded = read(table);
+        rows.put(table.entityType(), loaded);
+        return loaded;
+    }
+
+    private static <E extends Enum<E>, T> Map<E, T> read(ReferenceDataTable<E, T> table) {
+        return index(table, table.repository().findAll());
+    }
+
+    private static <E extends Enum<E>, T> Map<E, T> index(ReferenceDataTable<E, T> table, Collection<T> tableRows) {
+        var indexed = new EnumMap<E, T>(table.names());
+        tableRows.forEach(row -> indexed.put(table.nameOf().apply(row), row));
+        return Collections.unmodifiableMap(indexed);
+    }
+
+    /**
+     * Returns the table registered for an entity type.
+     *
+     * @param entityType the entity mapped to the table
+     * @return the reference data table
+     * @throws IllegalArgumentException if no table is registered for the entity type
+     */
+    @SuppressWarnings("unchecked")
+    <T> ReferenceDataTable<?, T> getTable(Class<T> entityType) {
+        var table = tables.get(entityType);
+        if (table == null)
+            throw new IllegalArgumentException("No reference data table registered for " + entityType.getSimpleName());
+        return (ReferenceDataTable<?, T>) table;
+    }
+}
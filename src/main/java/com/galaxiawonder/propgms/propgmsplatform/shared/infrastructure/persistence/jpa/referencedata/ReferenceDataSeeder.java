@@ -0,0 +1,144 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReferenceDataSeeder
+ *
+ * @summary
+ * Seeds the enum-backed lookup tables registered in the {@link ReferenceDataRegistry}.
+ * Each table is read once, only the missing constants are inserted with a single {@code saveAll}
+ * call, and the resulting rows are registered directly, so the registry needs no further query after
+ * seeding. Lookup tables keep {@code IDENTITY} identifiers, so each missing constant is still its own
+ * {@code INSERT}; there are only a handful per table, and only on the first startup.
+ *
+ * <p>Tables are seeded concurrently, each in its own transaction. Seeding is idempotent: when
+ * another instance inserts the same rows first, the unique name constraint rejects the insert and
+ * the table is read again. The time per table is recorded under {@code reference-data.seeding}
+ * and the total time under {@code application.reference-data.seeding.time}, next to the
+ * startup times reported by Spring Boot.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class ReferenceDataSeeder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReferenceDataSeeder.class);
+    private static final String SEEDING_METRIC = "reference-data.seeding";
+    private static final String SEEDING_TIME_METRIC = "application.reference-data.seeding.time";
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int parallelism;
+    private volatile double seedingMillis = Double.NaN;
+
+    public ReferenceDataSeeder(ReferenceDataRegistry referenceDataRegistry,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${reference-data.seeding.parallelism:4}") int parallelism) {
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.parallelism = Math.max(1, parallelism);
+        TimeGauge.builder(SEEDING_TIME_METRIC, this, TimeUnit.MILLISECONDS, seeder -> seeder.seedingMillis)
+                .description("Time taken to seed the reference data tables at startup")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Seeds every registered table concurrently.
+     *
+     * @return the number of inserted rows
+     * @throws IllegalStateException if any table could not be seeded
+     */
+    public int seedAll() {
+        var tables = referenceDataRegistry.getTables();
+        var start = System.nanoTime();
+        var inserted = 0;
+        try (var executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, tables.size())),
+                Thread.ofPlatform().name("reference-data-seeding-", 1).daemon().factory())) {
+            var futures = new ArrayList<Future<Integer>>(tables.size());
+            tables.forEach(table -> futures.add(executor.submit(() -> seedTable(table))));
+            for (var future : futures) {
+                inserted += await(future);
+            }
+        }
+        var elapsedNanos = System.nanoTime() - start;
+        seedingMillis = elapsedNanos / 1_000_000d;
+        LOGGER.info("Seeded {} reference data rows across {} tables in {} ms",
+                inserted, tables.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        return inserted;
+    }
+
+    private <E extends Enum<E>, T> int seedTable(ReferenceDataTable<E, T> table) {
+        var sample = Timer.start(meterRegistry);
+        try {
+            for (var attempt = 1; ; attempt++) {
+                var tableRows = new ArrayList<T>();
+                try {
+                    Integer inserted = transactionTemplate.execute(status -> insertMissing(table, tableRows));
+                    referenceDataRegistry.register(table, tableRows);
+                    return inserted == null ? 0 : inserted;
+                } catch (DataIntegrityViolationException e) {
+                    if (attempt == MAX_ATTEMPTS) throw e;
+                    LOGGER.info("Reference data for {} was seeded concurrently, reading it again",
+                            table.entityType().getSimpleName());
+                }
+            }
+        } finally {
+            sample.stop(Timer.builder(SEEDING_METRIC)
+                    .tag("table", table.entityType().getSimpleName())
+                    .description("Time taken to seed a reference data table")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Reads the rows of a table and inserts the constants that have no row yet.
+     *
+     * @param table the table to seed
+     * @param tableRows collects every row of the table, existing and inserted
+     * @return the number of inserted rows
+     */
+    private static <E extends Enum<E>, T> int insertMissing(ReferenceDataTable<E, T> table, List<T> tableRows) {
+        tableRows.addAll(table.repository().findAll());
+        var missing = EnumSet.allOf(table.names());
+        tableRows.forEach(row -> missing.remove(table.nameOf().apply(row)));
+        if (!missing.isEmpty()) {
+            tableRows.addAll(table.repository().saveAll(missing.stream().map(table.factory()).toList()));
+            table.repository().flush();
+        }
+        return missing.size();
+    }
+
+    private static int await(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding reference data", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Reference data seeding failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.referencedata;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * ReferenceDataTable
+ *
+ * @summary
+ * Describes a lookup table whose rows are identified by the constants of an enum,
+ * such as statuses and types. Each bounded context declares its tables as beans so
+ * that the {@link ReferenceDataRegistry} can load them without depending on the context.
+ *
+ * @param names the enum whose constants name the rows of the table
+ * @param entityType the entity mapped to the table
+ * @param repository the repository used to read the table
+ * @param nameOf extracts the enum constant from a row
+ * @param factory creates a new row for an enum constant
+ * @param <E> the enum type
+ * @param <T> the entity type
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record ReferenceDataTable<E extends Enum<E>, T>(
+        Class<E> names,
+        Class<T> entityType,
+        JpaRepository<T, Long> repository,
+        Function<T, E> nameOf,
+        Function<E, T> factory) {
+
+    public ReferenceDataTable {
+        Objects.requireNonNull(names, "Names enum is required");
+        Objects.requireNonNull(entityType, "Entity type is required");
+        Objects.requireNonNull(repository, "Repository is required");
+        Objects.requireNonNull(nameOf, "Name extractor is required");
+        Objects.requireNonNull(factory, "Factory is required");
+    }
+}
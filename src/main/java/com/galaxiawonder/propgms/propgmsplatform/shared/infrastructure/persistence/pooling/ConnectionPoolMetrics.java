@@ -0,0 +1,44 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.pooling;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * ConnectionPoolMetrics
+ *
+ * @summary
+ * Publishes the saturation of the Hikari connection pool under {@code persistence.pool.saturation},
+ * the share of its connections currently in use. It complements the {@code hikaricp.connections.*}
+ * meters bound by Spring Boot: a saturation close to one together with a growing
+ * {@code hikaricp.connections.pending} gauge and {@code hikaricp.connections.acquire} time means
+ * requests are stalled waiting for a connection.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class ConnectionPoolMetrics {
+    private static final String SATURATION_METRIC = "persistence.pool.saturation";
+
+    public ConnectionPoolMetrics(DataSource dataSource, MeterRegistry meterRegistry) {
+        var hikariDataSource = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        if (hikariDataSource == null) return;
+        Gauge.builder(SATURATION_METRIC, hikariDataSource, ConnectionPoolMetrics::saturation)
+                .tag("pool", String.valueOf(hikariDataSource.getPoolName()))
+                .description("Share of the pool connections in use")
+                .register(meterRegistry);
+    }
+
+    private static double saturation(HikariDataSource dataSource) {
+        var pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) return 0;
+        return (double) pool.getActiveConnections() / dataSource.getMaximumPoolSize();
+    }
+}
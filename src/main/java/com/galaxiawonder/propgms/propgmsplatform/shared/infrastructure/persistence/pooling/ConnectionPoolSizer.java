@@ -0,0 +1,70 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.pooling;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConnectionPoolSizer
+ *
+ * @summary
+ * Sizes the Hikari connection pool from the available cores and the expected database latency
+ * when {@code spring.datasource.hikari.maximum-pool-size} is not set. While a query waits on the
+ * database its thread does no work, so each core can keep {@code 1 + latency / cpu} connections busy,
+ * where {@code cpu} is the processing time around each query. The size is capped by
+ * {@code persistence.pool.sizing.max-size}, which should stay below the connection limit of the server.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class ConnectionPoolSizer implements BeanPostProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolSizer.class);
+    private static final int MIN_SIZE = 2;
+
+    private final long dbLatencyMillis;
+    private final long cpuMillis;
+    private final int maxSize;
+
+    public ConnectionPoolSizer(@Value("${persistence.pool.sizing.db-latency-millis:10}") long dbLatencyMillis,
+                               @Value("${persistence.pool.sizing.cpu-millis:5}") long cpuMillis,
+                               @Value("${persistence.pool.sizing.max-size:40}") int maxSize) {
+        this.dbLatencyMillis = dbLatencyMillis;
+        this.cpuMillis = Math.max(1, cpuMillis);
+        this.maxSize = Math.max(MIN_SIZE, maxSize);
+    }
+
+    /**
+     * Applies the derived size to a Hikari pool whose size is not configured. This runs once the
+     * {@code spring.datasource.hikari} properties are bound and before the pool is wrapped for statement
+     * timing; the pool only starts on its first connection request, so its size can still be changed.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && dataSource.getMaximumPoolSize() < 1) {
+            var cores = Runtime.getRuntime().availableProcessors();
+            var size = poolSize(cores);
+            dataSource.setMaximumPoolSize(size);
+            LOGGER.info("Sized connection pool {} to {} connections for {} cores, {} ms database latency and {} ms processing",
+                    dataSource.getPoolName(), size, cores, dbLatencyMillis, cpuMillis);
+        }
+        return bean;
+    }
+
+    /**
+     * Computes the pool size for a number of cores.
+     *
+     * @param cores the number of available cores
+     * @return the pool size, between {@link #MIN_SIZE} and the configured maximum
+     */
+    int poolSize(int cores) {
+        var size = (long) Math.ceil(cores * (1 + (double) dbLatencyMillis / cpuMillis));
+        return (int) Math.min(maxSize, Math.max(MIN_SIZE, size));
+    }
+}
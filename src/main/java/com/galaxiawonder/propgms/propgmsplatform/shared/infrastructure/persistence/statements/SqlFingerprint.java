@@ -0,0 +1,41 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+import java.util.regex.Pattern;
+
+/**
+ * SqlFingerprint
+ *
+ * @summary
+ * Normalized form of a SQL statement, shared by every execution of the same query whatever its values.
+ * String and numeric literals become placeholders, {@code IN} lists and multi-row {@code VALUES}
+ * collapse to a single entry and whitespace is compacted, so the fingerprint never carries data.
+ *
+ * @param id short hexadecimal identifier of the normalized statement
+ * @param sql the normalized statement
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record SqlFingerprint(String id, String sql) {
+    private static final Pattern STRING_LITERALS = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMERIC_LITERALS = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LISTS = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern VALUES_ROWS = Pattern.compile("(?i)\\bvalues\\s*(\\([^()]*\\))(?:\\s*,\\s*\\([^()]*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Computes the fingerprint of a statement.
+     *
+     * @param sql the statement, as prepared or executed
+     * @return the fingerprint of the statement
+     */
+    public static SqlFingerprint of(String sql) {
+        var normalized = STRING_LITERALS.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERALS.matcher(normalized).replaceAll("?");
+        normalized = IN_LISTS.matcher(normalized).replaceAll("in (?)");
+        normalized = VALUES_ROWS.matcher(normalized).replaceAll("values $1");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return new SqlFingerprint("%08x".formatted(normalized.hashCode()), normalized);
+    }
+}
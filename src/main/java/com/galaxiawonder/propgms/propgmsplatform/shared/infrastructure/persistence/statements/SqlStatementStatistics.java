@@ -0,0 +1,140 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SqlStatementStatistics
+ *
+ * @summary
+ * Aggregates the execution times of SQL statements by {@link SqlFingerprint}. Each fingerprint has a
+ * latency histogram published under {@code persistence.sql.statements}, tagged by fingerprint
+ * identifier, and running totals that back the {@code sqlstatements} actuator endpoint.
+ *
+ * <p>Statements slower than {@code persistence.sql.statistics.slow-threshold-millis} are logged as
+ * warnings on the {@code persistence.sql.statements} logger, and a {@code sample-rate} share of the
+ * others at info level. Log lines carry the fingerprint, never the bound values. Fingerprints beyond
+ * {@code max-fingerprints} are aggregated under {@code other}, which bounds the number of meters.</p>
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class SqlStatementStatistics {
+    private static final Logger STATEMENTS_LOGGER = LoggerFactory.getLogger("persistence.sql.statements");
+    private static final String STATEMENTS_METRIC = "persistence.sql.statements";
+    private static final SqlFingerprint OTHER_FINGERPRINT =
+            new SqlFingerprint("other", "statements beyond the tracked fingerprints");
+
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, SqlFingerprint> fingerprints;
+    private final Map<String, FingerprintStatistics> statistics = new ConcurrentHashMap<>();
+    private final int maxFingerprints;
+    private final long slowThresholdNanos;
+    private final double sampleRate;
+
+    public SqlStatementStatistics(MeterRegistry meterRegistry,
+                                  @Value("${persistence.sql.statistics.max-fingerprints:500}") int maxFingerprints,
+                                  @Value("${persistence.sql.statistics.slow-threshold-millis:200}") long slowThresholdMillis,
+                                  @Value("${persistence.sql.statistics.sample-rate:0.001}") double sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.fingerprints = Caffeine.newBuilder()
+                .maximumSize(maxFingerprints * 4L)
+                .build();
+        this.maxFingerprints = maxFingerprints;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Records the execution of a statement.
+     *
+     * @param sql the statement, as prepared or executed
+     * @param elapsedNanos the execution time
+     */
+    public void record(String sql, long elapsedNanos) {
+        var fingerprint = fingerprints.get(sql, SqlFingerprint::of);
+        var entry = statistics.get(fingerprint.id());
+        if (entry == null) {
+            var tracked = statistics.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+            entry = statistics.computeIfAbsent(tracked.id(), id -> new FingerprintStatistics(tracked, timer(id)));
+        }
+        entry.record(elapsedNanos);
+
+        if (elapsedNanos >= slowThresholdNanos) {
+            STATEMENTS_LOGGER.warn("Slow statement {} took {} ms: {}",
+                    fingerprint.id(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), fingerprint.sql());
+        } else if (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            STATEMENTS_LOGGER.info("Sampled statement {} took {} ms: {}",
+                    fingerprint.id(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), fingerprint.sql());
+        }
+    }
+
+    /**
+     * Returns the fingerprints with the highest total execution time.
+     *
+     * @param limit the maximum number of fingerprints returned
+     * @return the summaries, by descending total execution time
+     */
+    public List<SqlStatementSummary> top(int limit) {
+        return statistics.values().stream()
+                .map(FingerprintStatistics::summary)
+                .sorted(Comparator.comparingDouble(SqlStatementSummary::totalMillis).reversed())
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    private Timer timer(String fingerprintId) {
+        return Timer.builder(STATEMENTS_METRIC)
+                .tag("fingerprint", fingerprintId)
+                .description("Execution time of SQL statements by fingerprint")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Running totals of a single fingerprint.
+     */
+    private static final class FingerprintStatistics {
+        private final SqlFingerprint fingerprint;
+        private final Timer timer;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private FingerprintStatistics(SqlFingerprint fingerprint, Timer timer) {
+            this.fingerprint = fingerprint;
+            this.timer = timer;
+        }
+
+        private void record(long elapsedNanos) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            executions.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+        }
+
+        private SqlStatementSummary summary() {
+            var count = executions.sum();
+            var totalMillis = totalNanos.sum() / 1_000_000d;
+            return new SqlStatementSummary(fingerprint.id(), fingerprint.sql(), count, totalMillis,
+                    count == 0 ? 0 : totalMillis / count, maxNanos.get() / 1_000_000d);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+/**
+ * SqlStatementSummary
+ *
+ * @summary
+ * Accumulated execution times of the statements sharing a fingerprint since startup.
+ *
+ * @param fingerprint the identifier of the fingerprint
+ * @param sql the normalized statement
+ * @param executions the number of executions
+ * @param totalMillis the total execution time
+ * @param meanMillis the mean execution time
+ * @param maxMillis the longest execution time
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public record SqlStatementSummary(String fingerprint,
+                                  String sql,
+                                  long executions,
+                                  double totalMillis,
+                                  double meanMillis,
+                                  double maxMillis) {
+}
@@ -0,0 +1,45 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * SqlStatementsEndpoint
+ *
+ * @summary
+ * Actuator endpoint, exposed as {@code /actuator/sqlstatements}, that lists the SQL fingerprints
+ * with the highest total execution time since startup. The {@code limit} parameter sets the number
+ * of fingerprints returned, {@code persistence.sql.statistics.top-default} by default.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+@Endpoint(id = "sqlstatements")
+public class SqlStatementsEndpoint {
+    private final SqlStatementStatistics statistics;
+    private final int defaultLimit;
+
+    public SqlStatementsEndpoint(SqlStatementStatistics statistics,
+                                 @Value("${persistence.sql.statistics.top-default:20}") int defaultLimit) {
+        this.statistics = statistics;
+        this.defaultLimit = defaultLimit;
+    }
+
+    /**
+     * Lists the fingerprints with the highest total execution time.
+     *
+     * @param limit the maximum number of fingerprints, may be {@code null}
+     * @return the summaries, by descending total execution time
+     */
+    @ReadOperation
+    public List<SqlStatementSummary> topStatements(@Nullable Integer limit) {
+        return statistics.top(limit == null ? defaultLimit : limit);
+    }
+}
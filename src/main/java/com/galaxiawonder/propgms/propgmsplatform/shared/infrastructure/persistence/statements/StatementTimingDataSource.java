@@ -0,0 +1,105 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * StatementTimingDataSource
+ *
+ * @summary
+ * Data source that times every statement executed through its connections and reports it to the
+ * {@link SqlStatementStatistics}. Prepared statements are reported with the SQL they were prepared
+ * with, plain statements with the SQL passed to {@code execute}, so bound values are never seen.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+public class StatementTimingDataSource extends DelegatingDataSource {
+    private final ObjectProvider<SqlStatementStatistics> statisticsProvider;
+    private volatile SqlStatementStatistics statistics;
+
+    /**
+     * Constructs the data source around the pool that provides its connections.
+     *
+     * @param targetDataSource the data source being timed
+     * @param statisticsProvider the statistics, resolved on the first statement since the pool is created earlier
+     */
+    public StatementTimingDataSource(DataSource targetDataSource, ObjectProvider<SqlStatementStatistics> statisticsProvider) {
+        super(targetDataSource);
+        this.statisticsProvider = statisticsProvider;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            var result = invoke(connection, method, args);
+            if (!(result instanceof Statement statement)) return result;
+            var sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+            return timed(method.getReturnType(), statement, sql);
+        });
+    }
+
+    private Object timed(Class<?> statementType, Statement statement, String preparedSql) {
+        return proxy(statementType, statement, (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) return invoke(statement, method, args);
+            var sql = args != null && args.length > 0 && args[0] instanceof String executedSql ? executedSql : preparedSql;
+            var start = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                if (sql != null) statistics().record(sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    private SqlStatementStatistics statistics() {
+        var current = statistics;
+        if (current == null) statistics = current = statisticsProvider.getObject();
+        return current;
+    }
+
+    /**
+     * Creates a proxy of a JDBC object. Equality and hash codes use the proxy identity,
+     * so the proxy can be tracked in the registries of the persistence provider.
+     */
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getName().equals("equals") && method.getParameterCount() == 1) return proxy == args[0];
+            if (method.getName().equals("hashCode") && method.getParameterCount() == 0) return System.identityHashCode(proxy);
+            return handler.invoke(proxy, method, args);
+        }));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * StatementTimingPostProcessor
+ *
+ * @summary
+ * Wraps the application data source in a {@link StatementTimingDataSource} once the pool is configured,
+ * so that every statement, whether issued by Hibernate, Flyway or a {@code JdbcTemplate}, is timed.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class StatementTimingPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<SqlStatementStatistics> statisticsProvider;
+
+    public StatementTimingPostProcessor(ObjectProvider<SqlStatementStatistics> statisticsProvider) {
+        this.statisticsProvider = statisticsProvider;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementTimingDataSource))
+            return new StatementTimingDataSource(dataSource, statisticsProvider);
+        return bean;
+    }
+}
@@ -0,0 +1,99 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.pagination;
+
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetCursor;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPageRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * KeysetPagination
+ *
+ * @summary
+ * Translates keyset pagination between the REST layer and the query services.
+ * Clients send an opaque {@code cursor} and an optional {@code size}; page sizes are capped
+ * at {@code pagination.max-size}. The response body is the list of rows of the page, and the
+ * next page, if any, is announced with a {@code Link} header using the {@code next} relation.
+ *
+ * @author
+ * Galaxia Wonder Development Team
+ * @since 1.0
+ */
+@Component
+public class KeysetPagination {
+    /** Name of the query parameter carrying the cursor. */
+    public static final String CURSOR_PARAMETER = "cursor";
+
+    /** Name of the query parameter carrying the page size. */
+    public static final String SIZE_PARAMETER = "size";
+
+    private static final String SEPARATOR = ":";
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public KeysetPagination(@Value("${pagination.default-size:50}") int defaultSize,
+                            @Value("${pagination.max-size:200}") int maxSize) {
+        if (defaultSize < 1 || maxSize < defaultSize)
+            throw new IllegalArgumentException("Pagination sizes must satisfy 0 < default size <= max size");
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Builds the page request from the pagination query parameters.
+     *
+     * @param cursor the opaque cursor sent by the client, may be {@code null} for the first page
+     * @param size the requested page size, may be {@code null} for the default size
+     * @return the page request, or empty if the cursor is malformed or the size is not positive
+     */
+    public Optional<KeysetPageRequest> toPageRequest(String cursor, Integer size) {
+        if (size != null && size < 1) return Optional.empty();
+        var effectiveSize = size == null ? defaultSize : Math.min(size, maxSize);
+        if (cursor == null || cursor.isBlank()) return Optional.of(new KeysetPageRequest(null, effectiveSize));
+        return decode(cursor).map(after -> new KeysetPageRequest(after, effectiveSize));
+    }
+
+    /**
+     * Builds the response for a page, adding the {@code Link} header of the next page when there is one.
+     *
+     * @param page the page of resources
+     * @return the response with the resources of the page as body
+     */
+    public <T> ResponseEntity<List<T>> toResponseEntity(KeysetPage<T> page) {
+        var headers = new HttpHeaders();
+        if (page.hasNext()) {
+            var nextUri = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam(CURSOR_PARAMETER, encode(page.next()))
+                    .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + nextUri + ">; rel=\"next\"");
+        }
+        return new ResponseEntity<>(page.items(), headers, HttpStatus.OK);
+    }
+
+    private static String encode(KeysetCursor cursor) {
+        var raw = cursor.createdAt().getTime() + SEPARATOR + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Optional<KeysetCursor> decode(String cursor) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            var parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 2) return Optional.empty();
+            return Optional.of(new KeysetCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
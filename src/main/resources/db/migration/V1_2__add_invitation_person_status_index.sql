@@ -0,0 +1,10 @@
+-- Each statement is guarded, so schemas created before Flyway that already hold the indexes are left as they are.
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_invitations' AND index_name = 'idx_organization_invitations_person_status') = 0,
+    'CREATE INDEX idx_organization_invitations_person_status ON organization_invitations (person_id, status_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
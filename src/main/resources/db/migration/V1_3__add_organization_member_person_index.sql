@@ -0,0 +1,10 @@
+-- Each statement is guarded, so schemas created before Flyway that already hold the indexes are left as they are.
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_members' AND index_name = 'idx_organization_members_organization_person') = 0,
+    'CREATE INDEX idx_organization_members_organization_person ON organization_members (organization_id, person_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
@@ -0,0 +1,46 @@
+-- Each statement is guarded, so schemas created before Flyway that already hold the indexes are left as they are.
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_members' AND index_name = 'idx_organization_members_organization_keyset') = 0,
+    'CREATE INDEX idx_organization_members_organization_keyset ON organization_members (organization_id, created_at, id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_invitations' AND index_name = 'idx_organization_invitations_organization_keyset') = 0,
+    'CREATE INDEX idx_organization_invitations_organization_keyset ON organization_invitations (organization_id, created_at, id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'projects' AND index_name = 'idx_projects_contracting_entity_keyset') = 0,
+    'CREATE INDEX idx_projects_contracting_entity_keyset ON projects (person_id, created_at, id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'milestone_items' AND index_name = 'idx_milestone_items_milestone_keyset') = 0,
+    'CREATE INDEX idx_milestone_items_milestone_keyset ON milestone_items (milestone_id, created_at, id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'project_team_members' AND index_name = 'idx_project_team_members_project_keyset') = 0,
+    'CREATE INDEX idx_project_team_members_project_keyset ON project_team_members (project_id, created_at, id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
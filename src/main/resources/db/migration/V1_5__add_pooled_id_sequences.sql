@@ -0,0 +1,41 @@
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'Person', COALESCE(MAX(id), 0) + 1 FROM persons;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'UserAccount', COALESCE(MAX(id), 0) + 1 FROM user_accounts;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'Organization', COALESCE(MAX(id), 0) + 1 FROM organizations;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'OrganizationMember', COALESCE(MAX(id), 0) + 1 FROM organization_members;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'OrganizationInvitation', COALESCE(MAX(id), 0) + 1 FROM organization_invitations;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'Project', COALESCE(MAX(id), 0) + 1 FROM projects;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'ProjectTeamMember', COALESCE(MAX(id), 0) + 1 FROM project_team_members;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'Milestone', COALESCE(MAX(id), 0) + 1 FROM milestones;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'MilestoneItem', COALESCE(MAX(id), 0) + 1 FROM milestone_items;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'TaskSubmission', COALESCE(MAX(id), 0) + 1 FROM task_submissions;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'ChangeProcess', COALESCE(MAX(id), 0) + 1 FROM change_processes;
+
+INSERT IGNORE INTO id_sequences (sequence_name, next_val)
+SELECT 'ChangeOrder', COALESCE(MAX(id), 0) + 1 FROM change_orders;
@@ -0,0 +1,221 @@
+-- Each statement is guarded, so it applies to schemas created by V1 as well as to schemas created before Flyway,
+-- where the unique keys on the lookup names may exist under names generated by Hibernate.
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organizations' AND index_name = 'idx_organizations_ruc') = 0,
+    'CREATE INDEX idx_organizations_ruc ON organizations (`value`)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_members' AND index_name = 'idx_organization_members_person_organization') = 0,
+    'CREATE INDEX idx_organization_members_person_organization ON organization_members (person_id, organization_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_invitations' AND index_name = 'idx_organization_invitations_organization_person') = 0,
+    'CREATE INDEX idx_organization_invitations_organization_person ON organization_invitations (organization_id, person_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'project_team_members' AND index_name = 'idx_project_team_members_person_project') = 0,
+    'CREATE INDEX idx_project_team_members_person_project ON project_team_members (person_id, project_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'project_team_members' AND index_name = 'idx_project_team_members_project_organization_member') = 0,
+    'CREATE INDEX idx_project_team_members_project_organization_member ON project_team_members (project_id, organization_member_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'milestones' AND index_name = 'idx_milestones_project') = 0,
+    'CREATE INDEX idx_milestones_project ON milestones (project_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'tasks' AND index_name = 'idx_tasks_person') = 0,
+    'CREATE INDEX idx_tasks_person ON tasks (person_id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'change_processes' AND index_name = 'idx_change_processes_project_created_at') = 0,
+    'CREATE INDEX idx_change_processes_project_created_at ON change_processes (project_id, created_at)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'user_types' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_user_types_name')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'name'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE user_types DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'user_types' AND index_name = 'uk_user_types_name') = 0,
+    'ALTER TABLE user_types ADD CONSTRAINT uk_user_types_name UNIQUE (name)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'specialties' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_specialties_name')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'name'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE specialties DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'specialties' AND index_name = 'uk_specialties_name') = 0,
+    'ALTER TABLE specialties ADD CONSTRAINT uk_specialties_name UNIQUE (name)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'organization_statuses' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_organization_statuses_name')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'name'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE organization_statuses DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_statuses' AND index_name = 'uk_organization_statuses_name') = 0,
+    'ALTER TABLE organization_statuses ADD CONSTRAINT uk_organization_statuses_name UNIQUE (name)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'organization_member_types' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_organization_member_types_name')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'name'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE organization_member_types DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_member_types' AND index_name = 'uk_organization_member_types_name') = 0,
+    'ALTER TABLE organization_member_types ADD CONSTRAINT uk_organization_member_types_name UNIQUE (name)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'organization_invitation_statuses' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_organization_invitation_statuses_name')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'name'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE organization_invitation_statuses DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'organization_invitation_statuses' AND index_name = 'uk_organization_invitation_statuses_name') = 0,
+    'ALTER TABLE organization_invitation_statuses ADD CONSTRAINT uk_organization_invitation_statuses_name UNIQUE (name)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'project_statuses' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_project_statuses_name')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'name'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE project_statuses DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'project_statuses' AND index_name = 'uk_project_statuses_name') = 0,
+    'ALTER TABLE project_statuses ADD CONSTRAINT uk_project_statuses_name UNIQUE (name)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+-- The key referencing change_process_statuses is dropped while its identifier becomes AUTO_INCREMENT,
+-- since MySQL rejects changing a column used by a foreign key, and restored under its V1 name afterwards.
+SET @constraint_name = (
+    SELECT constraint_name FROM information_schema.key_column_usage
+    WHERE table_schema = DATABASE() AND table_name = 'change_processes'
+      AND column_name = 'status_id' AND referenced_table_name = 'change_process_statuses'
+    LIMIT 1);
+SET @statement = IF(@constraint_name IS NULL, 'DO 0',
+    CONCAT('ALTER TABLE change_processes DROP FOREIGN KEY `', @constraint_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+ALTER TABLE change_process_statuses
+    MODIFY id BIGINT NOT NULL AUTO_INCREMENT;
+
+ALTER TABLE change_processes
+    ADD CONSTRAINT fk_change_processes_status
+        FOREIGN KEY (status_id)
+            REFERENCES change_process_statuses (id);
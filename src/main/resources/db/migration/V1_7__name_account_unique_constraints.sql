@@ -0,0 +1,65 @@
+-- Sign-up reports a concurrent duplicate from the name of the violated constraint, so the unique keys that
+-- Hibernate generated on schemas created before Flyway are replaced by the names used in V1.
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'user_accounts' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_user_accounts_username')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'username'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE user_accounts DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'user_accounts' AND index_name = 'uk_user_accounts_username') = 0,
+    'ALTER TABLE user_accounts ADD CONSTRAINT uk_user_accounts_username UNIQUE (username)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'persons' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_persons_email')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'email'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE persons DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'persons' AND index_name = 'uk_persons_email') = 0,
+    'ALTER TABLE persons ADD CONSTRAINT uk_persons_email UNIQUE (email)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @index_name = (
+    SELECT index_name FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'persons' AND non_unique = 0
+      AND index_name NOT IN ('PRIMARY', 'uk_persons_phone_number')
+    GROUP BY index_name
+    HAVING COUNT(*) = 1 AND MAX(column_name) = 'phone_number'
+    LIMIT 1);
+SET @statement = IF(@index_name IS NULL, 'DO 0', CONCAT('ALTER TABLE persons DROP INDEX `', @index_name, '`'));
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.statistics
+     WHERE table_schema = DATABASE() AND table_name = 'persons' AND index_name = 'uk_persons_phone_number') = 0,
+    'ALTER TABLE persons ADD CONSTRAINT uk_persons_phone_number UNIQUE (phone_number)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
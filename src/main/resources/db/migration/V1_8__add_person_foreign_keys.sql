@@ -0,0 +1,32 @@
+-- Adds the person foreign keys of V1_1 to schemas created before Flyway, which are baselined past V1_1.
+-- Each statement is guarded, so schemas that already hold the keys, such as those built from V1 and V1_1, are left as they are.
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.table_constraints
+     WHERE constraint_schema = DATABASE() AND table_name = 'user_accounts'
+       AND constraint_name = 'fk_user_person' AND constraint_type = 'FOREIGN KEY') = 0,
+    'ALTER TABLE user_accounts ADD CONSTRAINT fk_user_person FOREIGN KEY (person_id) REFERENCES persons (id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.table_constraints
+     WHERE constraint_schema = DATABASE() AND table_name = 'organization_members'
+       AND constraint_name = 'fk_member_person' AND constraint_type = 'FOREIGN KEY') = 0,
+    'ALTER TABLE organization_members ADD CONSTRAINT fk_member_person FOREIGN KEY (person_id) REFERENCES persons (id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
+
+SET @statement = IF(
+    (SELECT COUNT(*) FROM information_schema.table_constraints
+     WHERE constraint_schema = DATABASE() AND table_name = 'organization_invitations'
+       AND constraint_name = 'fk_invitation_person' AND constraint_type = 'FOREIGN KEY') = 0,
+    'ALTER TABLE organization_invitations ADD CONSTRAINT fk_invitation_person FOREIGN KEY (person_id) REFERENCES persons (id)',
+    'DO 0');
+PREPARE statement FROM @statement;
+EXECUTE statement;
+DEALLOCATE PREPARE statement;
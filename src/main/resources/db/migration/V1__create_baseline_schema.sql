@@ -0,0 +1,243 @@
+CREATE TABLE user_types (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('TYPE_WORKER', 'TYPE_CLIENT'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE specialties (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('ARCHITECTURE', 'STRUCTURES', 'HSA', 'TOPOGRAPHY', 'SANITATION', 'ELECTRICITY',
+        'COMMUNICATIONS', 'NON_APPLICABLE'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organization_statuses (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('ACTIVE', 'INACTIVE'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organization_member_types (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('CONTRACTOR', 'WORKER'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organization_invitation_statuses (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('PENDING', 'ACCEPTED', 'REJECTED'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE project_statuses (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('BASIC_STUDIES', 'DESIGN_IN_PROCESS', 'UNDER_REVIEW', 'CHANGE_REQUESTED', 'CHANGE_PENDING',
+        'APPROVED'),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE project_team_member_types (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('COORDINATOR', 'SPECIALIST') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_team_member_types_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_statuses (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('DRAFT', 'PENDING', 'SUBMITTED', 'APPROVED', 'REJECTED') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_task_statuses_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE change_origins (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('CHANGE_REQUEST', 'TECHNICAL_QUERY') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_change_origins_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE change_process_statuses (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    name ENUM('PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_change_process_statuses_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE persons (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    phone_number VARCHAR(16),
+    professional_id CHAR(9),
+    specialty_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_persons_email UNIQUE (email),
+    CONSTRAINT uk_persons_phone_number UNIQUE (phone_number),
+    CONSTRAINT fk_persons_specialty FOREIGN KEY (specialty_id) REFERENCES specialties (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_accounts (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    username VARCHAR(255),
+    hashed_password VARCHAR(255),
+    user_type_id BIGINT NOT NULL,
+    person_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_accounts_username UNIQUE (username),
+    CONSTRAINT fk_user_accounts_user_type FOREIGN KEY (user_type_id) REFERENCES user_types (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organizations (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    legal_name VARCHAR(255),
+    commercial_name VARCHAR(255),
+    `value` VARCHAR(255),
+    person_id BIGINT,
+    organization_status_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_organizations_status FOREIGN KEY (organization_status_id) REFERENCES organization_statuses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organization_members (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    person_id BIGINT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    organization_id BIGINT NOT NULL,
+    member_type_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_organization_members_organization FOREIGN KEY (organization_id) REFERENCES organizations (id),
+    CONSTRAINT fk_organization_members_member_type FOREIGN KEY (member_type_id)
+        REFERENCES organization_member_types (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE organization_invitations (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    organization_id BIGINT NOT NULL,
+    person_id BIGINT,
+    status_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_organization_invitations_organization FOREIGN KEY (organization_id) REFERENCES organizations (id),
+    CONSTRAINT fk_organization_invitations_status FOREIGN KEY (status_id)
+        REFERENCES organization_invitation_statuses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE projects (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    project_name VARCHAR(255),
+    description VARCHAR(255),
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    organization_id BIGINT,
+    person_id BIGINT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    status_id BIGINT NOT NULL,
+    previous_status_name VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_projects_status FOREIGN KEY (status_id) REFERENCES project_statuses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE project_team_members (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    project_id BIGINT,
+    specialty_id BIGINT NOT NULL,
+    organization_member_id BIGINT,
+    person_id BIGINT,
+    first_name VARCHAR(255),
+    last_name VARCHAR(255),
+    email VARCHAR(255),
+    member_type_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_project_team_members_specialty FOREIGN KEY (specialty_id) REFERENCES specialties (id),
+    CONSTRAINT fk_project_team_members_member_type FOREIGN KEY (member_type_id)
+        REFERENCES project_team_member_types (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE milestones (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    milestone_name VARCHAR(255),
+    description VARCHAR(255),
+    project_id BIGINT,
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE task_submissions (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE milestone_items (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    milestone_item_name VARCHAR(255),
+    description VARCHAR(255),
+    start_date DATETIME(6),
+    end_date DATETIME(6),
+    milestone_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE tasks (
+    id BIGINT NOT NULL,
+    specialty_id BIGINT NOT NULL,
+    status_id BIGINT NOT NULL,
+    person_id BIGINT,
+    task_submission_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_tasks_task_submission UNIQUE (task_submission_id),
+    CONSTRAINT fk_tasks_milestone_item FOREIGN KEY (id) REFERENCES milestone_items (id),
+    CONSTRAINT fk_tasks_specialty FOREIGN KEY (specialty_id) REFERENCES specialties (id),
+    CONSTRAINT fk_tasks_status FOREIGN KEY (status_id) REFERENCES task_statuses (id),
+    CONSTRAINT fk_tasks_task_submission FOREIGN KEY (task_submission_id) REFERENCES task_submissions (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE change_processes (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    origin_id BIGINT NOT NULL,
+    status_id BIGINT NOT NULL,
+    justification VARCHAR(255),
+    response VARCHAR(255),
+    project_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_change_processes_origin FOREIGN KEY (origin_id) REFERENCES change_origins (id),
+    CONSTRAINT fk_change_processes_status FOREIGN KEY (status_id) REFERENCES change_process_statuses (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE change_orders (
+    id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    milestone_id BIGINT,
+    justification VARCHAR(255),
+    change_process_id BIGINT,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,22 @@
+package com.galaxiawonder.propgms.propgmsplatform;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Starts a throwaway MySQL server for the tests that need the full schema, so they run without a configured database.
+ * Flyway builds the schema from the migrations, and the data source connects to the container through
+ * {@link ServiceConnection}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class TestcontainersConfiguration {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"));
+    }
+}
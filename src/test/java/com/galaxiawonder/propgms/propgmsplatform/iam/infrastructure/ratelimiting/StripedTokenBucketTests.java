@@ -0,0 +1,70 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.ratelimiting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedTokenBucketTests {
+    private static final long REFILL_PERIOD_MILLIS = 1000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    @Test
+    void rejectsOnceCapacityIsSpent() {
+        var buckets = new StripedTokenBucket(16, 2, 2, REFILL_PERIOD_MILLIS, clock::get);
+
+        assertThat(buckets.tryAcquire("alice")).isTrue();
+        assertThat(buckets.tryAcquire("alice")).isTrue();
+        assertThat(buckets.tryAcquire("alice")).isFalse();
+    }
+
+    @Test
+    void refillsInProportionToElapsedTime() {
+        var buckets = new StripedTokenBucket(16, 2, 2, REFILL_PERIOD_MILLIS, clock::get);
+        buckets.tryAcquire("alice");
+        buckets.tryAcquire("alice");
+
+        clock.addAndGet(REFILL_PERIOD_MILLIS / 2);
+
+        assertThat(buckets.tryAcquire("alice")).isTrue();
+        assertThat(buckets.tryAcquire("alice")).isFalse();
+    }
+
+    @Test
+    void neverRefillsBeyondCapacity() {
+        var buckets = new StripedTokenBucket(16, 2, 2, REFILL_PERIOD_MILLIS, clock::get);
+        buckets.tryAcquire("alice");
+
+        clock.addAndGet(REFILL_PERIOD_MILLIS * 100);
+
+        assertThat(buckets.tryAcquire("alice")).isTrue();
+        assertThat(buckets.tryAcquire("alice")).isTrue();
+        assertThat(buckets.tryAcquire("alice")).isFalse();
+    }
+
+    @Test
+    void keysSharingAStripeShareItsBudget() {
+        var buckets = new StripedTokenBucket(2, 1, 1, REFILL_PERIOD_MILLIS, clock::get);
+
+        assertThat(buckets.tryAcquire("a")).isTrue();
+        assertThat(buckets.tryAcquire("c")).as("same stripe as a").isFalse();
+        assertThat(buckets.tryAcquire("b")).as("other stripe").isTrue();
+    }
+
+    @Test
+    void singleStripeLimitsEveryKeyTogether() {
+        var buckets = new StripedTokenBucket(1, 1, 1, REFILL_PERIOD_MILLIS, clock::get);
+
+        assertThat(buckets.tryAcquire("alice")).isTrue();
+        assertThat(buckets.tryAcquire("bob")).isFalse();
+    }
+
+    @Test
+    void rejectsInvalidCapacity() {
+        assertThatThrownBy(() -> new StripedTokenBucket(16, 0, 1, REFILL_PERIOD_MILLIS, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
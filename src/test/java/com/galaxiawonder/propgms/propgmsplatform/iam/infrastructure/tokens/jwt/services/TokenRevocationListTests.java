@@ -0,0 +1,80 @@
+package com.galaxiawonder.propgms.propgmsplatform.iam.infrastructure.tokens.jwt.services;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTests {
+    private static final String SECRET = "a-test-secret-that-is-long-enough-for-hmac-sha-256";
+    private static final int EXPIRATION_DAYS = 7;
+
+    private final TokenCrypto tokenCrypto = new TokenCrypto(SECRET);
+    private final TokenRevocationList revocationList = new TokenRevocationList(EXPIRATION_DAYS);
+    private final BearerTokenServiceImpl tokenService = newTokenService();
+
+    @Test
+    void signInDuringTheSecondOfAPasswordChangeKeepsTheNewToken() throws InterruptedException {
+        awaitStartOfSecond();
+        var oldToken = issueToken("alice");
+        Thread.sleep(2);
+        revocationList.revokeAllIssuedTo("alice");
+        Thread.sleep(2);
+        var newToken = issueToken("alice");
+
+        assertThat(secondOf(newToken)).isEqualTo(secondOf(oldToken));
+        assertThat(isRevoked(oldToken)).isTrue();
+        assertThat(isRevoked(newToken)).isFalse();
+    }
+
+    @Test
+    void revokingASubjectLeavesOtherSubjectsValid() {
+        var token = issueToken("bob");
+
+        revocationList.revokeAllIssuedTo("alice");
+
+        assertThat(isRevoked(token)).isFalse();
+    }
+
+    @Test
+    void revokesASingleToken() {
+        var token = issueToken("alice");
+        var otherToken = issueToken("alice");
+
+        revocationList.revoke(token, tokenCrypto.parseAndValidate(token));
+
+        assertThat(isRevoked(token)).isTrue();
+        assertThat(isRevoked(otherToken)).isFalse();
+    }
+
+    private BearerTokenServiceImpl newTokenService() {
+        var service = new BearerTokenServiceImpl(tokenCrypto, revocationList);
+        ReflectionTestUtils.setField(service, "expirationDays", EXPIRATION_DAYS);
+        return service;
+    }
+
+    private String issueToken(String username) {
+        return tokenService.generateToken(username, "1", List.of("TYPE_WORKER"));
+    }
+
+    private boolean isRevoked(String token) {
+        return revocationList.isRevoked(TokenDigest.of(token), tokenCrypto.parseAndValidate(token));
+    }
+
+    private Instant secondOf(String token) {
+        return tokenCrypto.parseClaims(token).getIssuedAt().toInstant().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Waits until the current second has enough time left for a sign-in, a revocation and another sign-in.
+     */
+    private static void awaitStartOfSecond() {
+        while (Instant.now().getNano() > 500_000_000) {
+            Thread.onSpinWait();
+        }
+    }
+}
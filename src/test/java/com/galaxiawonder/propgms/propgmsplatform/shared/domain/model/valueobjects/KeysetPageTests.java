@@ -0,0 +1,55 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeysetPageTests {
+    private record Row(long id, Date createdAt) {
+    }
+
+    private static final Row FIRST = new Row(1L, new Date(1_000L));
+    private static final Row SECOND = new Row(2L, new Date(2_000L));
+    private static final Row THIRD = new Row(3L, new Date(3_000L));
+
+    @Test
+    void extraRowRevealsNextPage() {
+        var page = KeysetPage.of(List.of(FIRST, SECOND, THIRD), new KeysetPageRequest(null, 2),
+                Row::createdAt, Row::id);
+
+        assertThat(page.items()).containsExactly(FIRST, SECOND);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.next()).isEqualTo(new KeysetCursor(SECOND.createdAt(), SECOND.id()));
+    }
+
+    @Test
+    void fullPageWithoutExtraRowIsLast() {
+        var page = KeysetPage.of(List.of(FIRST, SECOND), new KeysetPageRequest(null, 2),
+                Row::createdAt, Row::id);
+
+        assertThat(page.items()).containsExactly(FIRST, SECOND);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void emptyPageIsLast() {
+        var page = KeysetPage.of(List.<Row>of(), new KeysetPageRequest(null, 2), Row::createdAt, Row::id);
+
+        assertThat(page.items()).isEmpty();
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void mapKeepsCursor() {
+        var page = KeysetPage.of(List.of(FIRST, SECOND, THIRD), new KeysetPageRequest(null, 2),
+                Row::createdAt, Row::id);
+
+        var ids = page.map(Row::id);
+
+        assertThat(ids.items()).containsExactly(1L, 2L);
+        assertThat(ids.next()).isEqualTo(page.next());
+    }
+}
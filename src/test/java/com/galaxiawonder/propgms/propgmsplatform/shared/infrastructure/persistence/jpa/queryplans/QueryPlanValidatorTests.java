@@ -0,0 +1,30 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.jpa.queryplans;
+
+import com.galaxiawonder.propgms.propgmsplatform.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestcontainersConfiguration.class)
+class QueryPlanValidatorTests {
+    /** Repository queries allowed to read a whole table, as {@code Repository.method}. */
+    private static final Set<String> ALLOWED_FULL_SCANS = Set.of();
+
+    @Autowired
+    private QueryPlanValidator queryPlanValidator;
+
+    @Test
+    void repositoryQueriesAreServedByIndexes() {
+        assertThat(queryPlanValidator.validate())
+                .filteredOn(fullScan -> !ALLOWED_FULL_SCANS.contains(fullScan.queryMethod()))
+                .isEmpty();
+    }
+}
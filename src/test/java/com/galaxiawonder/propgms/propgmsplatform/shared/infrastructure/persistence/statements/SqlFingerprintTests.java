@@ -0,0 +1,58 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.infrastructure.persistence.statements;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlFingerprintTests {
+
+    @Test
+    void replacesStringAndNumericLiterals() {
+        var fingerprint = SqlFingerprint.of("select * from persons where email = 'a@b.com' and id = 42");
+
+        assertThat(fingerprint.sql()).isEqualTo("select * from persons where email = ? and id = ?");
+        assertThat(fingerprint).isEqualTo(SqlFingerprint.of("select * from persons where email = 'c@d.org' and id = 7"));
+    }
+
+    @Test
+    void replacesEscapedQuotesAndSignedDecimals() {
+        var fingerprint = SqlFingerprint.of("select id from persons where last_name = 'O''Brien' and score > -1.5");
+
+        assertThat(fingerprint.sql()).isEqualTo("select id from persons where last_name = ? and score > ?");
+    }
+
+    @Test
+    void keepsDigitsOfIdentifiers() {
+        var fingerprint = SqlFingerprint.of("select p1_0.id from persons p1_0 where p1_0.id = ?");
+
+        assertThat(fingerprint.sql()).isEqualTo("select p1_0.id from persons p1_0 where p1_0.id = ?");
+    }
+
+    @Test
+    void collapsesInListsWhateverTheirSize() {
+        var literals = SqlFingerprint.of("select id from persons where id in (1, 2, 3)");
+        var placeholders = SqlFingerprint.of("select id from persons where id in (?,?,?,?)");
+        var single = SqlFingerprint.of("select id from persons where id in (?)");
+
+        assertThat(literals.sql()).isEqualTo("select id from persons where id in (?)");
+        assertThat(placeholders).isEqualTo(literals);
+        assertThat(single).isEqualTo(literals);
+    }
+
+    @Test
+    void collapsesMultiRowValuesToOneRow() {
+        var rows = SqlFingerprint.of("insert into persons (id, email) values (1, 'a'), (2, 'b'), (3, 'c')");
+        var row = SqlFingerprint.of("insert into persons (id, email) values (?, ?)");
+
+        assertThat(rows.sql()).isEqualTo("insert into persons (id, email) values (?, ?)");
+        assertThat(rows).isEqualTo(row);
+    }
+
+    @Test
+    void compactsWhitespace() {
+        var fingerprint = SqlFingerprint.of("\n select\n  id\tfrom persons  where id = ? ");
+
+        assertThat(fingerprint.sql()).isEqualTo("select id from persons where id = ?");
+        assertThat(fingerprint.id()).hasSize(8);
+    }
+}
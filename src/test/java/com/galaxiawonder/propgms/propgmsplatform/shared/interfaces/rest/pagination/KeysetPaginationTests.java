@@ -0,0 +1,108 @@
+package com.galaxiawonder.propgms.propgmsplatform.shared.interfaces.rest.pagination;
+
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetCursor;
+import com.galaxiawonder.propgms.propgmsplatform.shared.domain.model.valueobjects.KeysetPage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetPaginationTests {
+    private static final int DEFAULT_SIZE = 50;
+    private static final int MAX_SIZE = 200;
+
+    private final KeysetPagination pagination = new KeysetPagination(DEFAULT_SIZE, MAX_SIZE);
+
+    @BeforeEach
+    void bindRequest() {
+        var request = new MockHttpServletRequest("GET", "/api/v1/projects");
+        request.setQueryString("size=2");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void nextCursorRoundTrips() {
+        var cursor = new KeysetCursor(new Date(1_700_000_000_123L), 42L);
+
+        var response = pagination.toResponseEntity(new KeysetPage<>(List.of("a", "b"), cursor));
+        var pageRequest = pagination.toPageRequest(nextCursorOf(response.getHeaders()), 2);
+
+        assertThat(pageRequest).hasValueSatisfying(request -> {
+            assertThat(request.after()).isEqualTo(cursor);
+            assertThat(request.size()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void lastPageHasNoLinkHeader() {
+        var response = pagination.toResponseEntity(new KeysetPage<>(List.of("a"), null));
+
+        assertThat(response.getHeaders().containsKey(HttpHeaders.LINK)).isFalse();
+        assertThat(response.getBody()).containsExactly("a");
+    }
+
+    @Test
+    void firstPageHasNoCursor() {
+        assertThat(pagination.toPageRequest(null, null)).hasValueSatisfying(request -> {
+            assertThat(request.after()).isNull();
+            assertThat(request.size()).isEqualTo(DEFAULT_SIZE);
+        });
+    }
+
+    @Test
+    void capsPageSizeAtMaxSize() {
+        assertThat(pagination.toPageRequest(null, MAX_SIZE * 10))
+                .hasValueSatisfying(request -> assertThat(request.size()).isEqualTo(MAX_SIZE));
+    }
+
+    @Test
+    void rejectsNonPositiveSize() {
+        assertThat(pagination.toPageRequest(null, 0)).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThat(pagination.toPageRequest("not base64!", null)).isEmpty();
+        assertThat(pagination.toPageRequest(encode("1700000000123"), null)).isEmpty();
+        assertThat(pagination.toPageRequest(encode("1700000000123:42:7"), null)).isEmpty();
+        assertThat(pagination.toPageRequest(encode("yesterday:42"), null)).isEmpty();
+        assertThat(pagination.toPageRequest(encode("1700000000123:"), null)).isEmpty();
+    }
+
+    @Test
+    void rejectsInvalidSizes() {
+        assertThatThrownBy(() -> new KeysetPagination(0, MAX_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new KeysetPagination(DEFAULT_SIZE, DEFAULT_SIZE - 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String nextCursorOf(HttpHeaders headers) {
+        var link = headers.getFirst(HttpHeaders.LINK);
+        assertThat(link).endsWith("; rel=\"next\"");
+        var uri = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        return UriComponentsBuilder.fromUriString(uri).build().getQueryParams()
+                .getFirst(KeysetPagination.CURSOR_PARAMETER);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}